@@ -0,0 +1,197 @@
+package popeye.popeyebackend.batch.settlement.writer;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import popeye.popeyebackend.PopeyeBackendApplication;
+import popeye.popeyebackend.batch.settlement.dto.SettlementItemDto;
+import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.repository.ContentRepository;
+import popeye.popeyebackend.global.util.EncryptionUtil;
+import popeye.popeyebackend.pay.domain.Settlement;
+import popeye.popeyebackend.pay.repository.SettlementJdbcRepository;
+import popeye.popeyebackend.pay.repository.SettlementRepository;
+import popeye.popeyebackend.user.domain.Creator;
+import popeye.popeyebackend.user.repository.CreatorRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정산 Writer 저장 방식 벤치마크: 기존 Writer 경로 vs SettlementJdbcRepository.batchInsert
+ * - jpa: chunk마다 creator/content를 findAllById로 로딩한 뒤 Settlement를 건별 save (IDENTITY라 INSERT 건별 왕복)
+ * - jdbc-batch: chunk마다 SettlementJdbcRepository.batchInsert (rewriteBatchedStatements=true면 multi-row INSERT)
+ * 정산 step과 같이 100건 chunk마다 트랜잭션을 커밋하며 N건을 저장하는 데 걸린 시간을 측정
+ *
+ * 실제 settlements 테이블(FK 포함)에 저장하므로 기존 creators/contents 행이 있는 DB가 필요하고,
+ * 매 반복이 끝나면 벤치마크가 추가한 settlements 행을 삭제함
+ * 실행: SPRING_DB_URL, MYSQL_USER, MYSQL_PASSWORD 설정 후
+ *   ./gradlew jmh -PjmhIncludes=SettlementWriterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SettlementWriterBenchmark {
+
+    // PopeyeBatchConfig.settlementStep chunk 크기
+    private static final int CHUNK_SIZE = 100;
+    // 정산 대상으로 사용할 기존 콘텐츠 수
+    private static final int CONTENT_SAMPLE = 1_000;
+
+    @Param({"jpa", "jdbc-batch"})
+    private String writeMode;
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private SettlementRepository settlementRepository;
+    private SettlementJdbcRepository settlementJdbcRepository;
+    private CreatorRepository creatorRepository;
+    private ContentRepository contentRepository;
+
+    private List<SettlementItemDto> items;
+    private long maxSettlementIdBefore;
+
+    /**
+     * 벤치마크에 필요한 DataSource/JPA/JdbcTemplate와 리포지토리만 올린 컨텍스트
+     * (Creator의 계좌 컬럼 컨버터가 EncryptionUtil 빈을 사용)
+     */
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = PopeyeBackendApplication.class)
+    @EnableJpaRepositories(
+            basePackageClasses = PopeyeBackendApplication.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {SettlementRepository.class, CreatorRepository.class, ContentRepository.class}))
+    @Import({SettlementJdbcRepository.class, EncryptionUtil.class})
+    static class BenchmarkConfig {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getenv("SPRING_DB_URL");
+        String separator = url.contains("?") ? "&" : "?";
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + url + separator + "rewriteBatchedStatements=true",
+                        "spring.datasource.username=" + System.getenv("MYSQL_USER"),
+                        "spring.datasource.password=" + System.getenv("MYSQL_PASSWORD"),
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.jpa.open-in-view=false",
+                        "popeye.secret-key=" + System.getenv().getOrDefault("POPEYE_SECRET_KEY", "benchmark"))
+                .run();
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        settlementRepository = context.getBean(SettlementRepository.class);
+        settlementJdbcRepository = context.getBean(SettlementJdbcRepository.class);
+        creatorRepository = context.getBean(CreatorRepository.class);
+        contentRepository = context.getBean(ContentRepository.class);
+
+        // 기존 콘텐츠(creator, content) 쌍에 정산 결과를 고르게 분배
+        List<long[]> pairs = jdbcTemplate.query(
+                "SELECT creator_id, id FROM contents ORDER BY id LIMIT " + CONTENT_SAMPLE,
+                (rs, i) -> new long[] {rs.getLong(1), rs.getLong(2)});
+        if (pairs.isEmpty()) {
+            throw new IllegalStateException("contents 행이 있는 DB가 필요합니다.");
+        }
+        items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long[] pair = pairs.get(i % pairs.size());
+            long gross = 1_000L + (i % 997);
+            items.add(new SettlementItemDto(pair[0], pair[1], gross, gross * 90 / 100, 10, (long) i, 1L));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void markStart() {
+        maxSettlementIdBefore = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM settlements", Long.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInserted() {
+        jdbcTemplate.update("DELETE FROM settlements WHERE id > ?", maxSettlementIdBefore);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int writeSettlements() {
+        boolean jpa = writeMode.equals("jpa");
+        int written = 0;
+        for (int chunkStart = 0; chunkStart < rows; chunkStart += CHUNK_SIZE) {
+            List<SettlementItemDto> chunk = items.subList(chunkStart, Math.min(chunkStart + CHUNK_SIZE, rows));
+            LocalDateTime settledAt = LocalDateTime.now();
+            Integer count = transactionTemplate.execute(status -> {
+                if (jpa) {
+                    return writeWithJpa(chunk, settledAt);
+                }
+                settlementJdbcRepository.batchInsert(chunk, settledAt);
+                return chunk.size();
+            });
+            written += count != null ? count : 0;
+        }
+        return written;
+    }
+
+    // 기존 SettlementBatchWriter 저장 경로 (엔티티 조회 후 건별 save)
+    private int writeWithJpa(List<SettlementItemDto> chunk, LocalDateTime settledAt) {
+        List<Long> creatorIds = chunk.stream().map(SettlementItemDto::creatorId).distinct().toList();
+        List<Long> contentIds = chunk.stream().map(SettlementItemDto::contentId).distinct().toList();
+        Map<Long, Creator> creatorMap = creatorRepository.findAllById(creatorIds).stream()
+                .collect(Collectors.toMap(Creator::getId, Function.identity()));
+        Map<Long, Content> contentMap = contentRepository.findAllById(contentIds).stream()
+                .collect(Collectors.toMap(Content::getId, Function.identity()));
+
+        int saved = 0;
+        for (SettlementItemDto item : chunk) {
+            Creator creator = creatorMap.get(item.creatorId());
+            Content content = contentMap.get(item.contentId());
+            if (creator == null || content == null) {
+                continue;
+            }
+            settlementRepository.save(Settlement.builder()
+                    .totalAmount(item.netAmount())
+                    .feeRate(item.feeRate())
+                    .settledAt(settledAt)
+                    .creator(creator)
+                    .content(content)
+                    .build());
+            saved++;
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,57 @@
+package popeye.popeyebackend.content.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미디어 URL 추출 벤치마크: 기존 Jsoup DOM 파싱(JsoupMediaExtractor, src/test) vs 스트리밍 스캐너
+ *
+ * 실행: ./gradlew jmh
+ * 힙 할당량 비교: ./gradlew jmh -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentMediaExtractorBenchmark {
+
+    // 10 KB / 1 MB / 10 MB 본문
+    @Param({"10240", "1048576", "10485760"})
+    private int bodySize;
+
+    private String html;
+    private final ContentMediaExtractor streamingExtractor = new ContentMediaExtractor();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder sb = new StringBuilder(bodySize + 512);
+        int i = 0;
+        while (sb.length() < bodySize) {
+            sb.append("<p class=\"paragraph\">크리에이터가 작성한 본문 문단입니다. Lorem ipsum dolor sit amet ")
+              .append(i).append("</p>");
+            if (i % 5 == 0) {
+                sb.append("<img src=\"https://cdn.popeye.test/images/").append(i).append(".png\" alt=\"image\">");
+            }
+            if (i % 20 == 0) {
+                sb.append("<video controls><source src=\"https://cdn.popeye.test/videos/")
+                  .append(i).append(".mp4\" type=\"video/mp4\"></video>");
+            }
+            i++;
+        }
+        html = sb.toString();
+    }
+
+    @Benchmark
+    public void domParse(Blackhole bh) {
+        bh.consume(JsoupMediaExtractor.extract(html));
+    }
+
+    @Benchmark
+    public void streamingScan(Blackhole bh) {
+        bh.consume(streamingExtractor.extract(html));
+    }
+}
@@ -0,0 +1,75 @@
+package popeye.popeyebackend.global.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 PG/S3 호출을 흉내 낸 요청 처리량 벤치마크: 플랫폼 스레드 풀(Tomcat 기본 200) vs 가상 스레드
+ * 요청 N건이 동시에 들어왔을 때 모두 처리되기까지 걸린 시간을 측정
+ * (platform-200은 N/200 * latency 근처, virtual은 latency 근처가 기대값)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BlockingIoThreadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockingIoThreadBenchmark {
+
+    // Tomcat 기본 max-threads
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform-200", "virtual"})
+    private String executorType;
+
+    // 동시 요청 수
+    @Param({"1000", "5000"})
+    private int requests;
+
+    // PG 승인/S3 업로드 응답 지연(ms)
+    @Param({"200"})
+    private long latencyMillis;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        executor = executorType.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveConcurrentRequests() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int requestId = i;
+            futures.add(executor.submit(() -> handleRequest(requestId)));
+        }
+        int sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    // 요청 하나: 짧은 CPU 작업 + 외부 I/O 대기 (Thread.sleep은 가상 스레드에서 캐리어를 반납)
+    private int handleRequest(int requestId) throws InterruptedException {
+        int hash = Integer.hashCode(requestId) * 31;
+        Thread.sleep(latencyMillis);
+        return hash & 1;
+    }
+}
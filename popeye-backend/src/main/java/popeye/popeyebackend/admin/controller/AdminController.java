@@ -12,6 +12,9 @@ import popeye.popeyebackend.admin.dto.BanUserInfoDto;
 import popeye.popeyebackend.admin.dto.DevilUserDto;
 import popeye.popeyebackend.admin.dto.InactiveContentDto;
 import popeye.popeyebackend.admin.service.AdminService;
+import popeye.popeyebackend.batch.backfill.BatchBackfillService;
+import popeye.popeyebackend.batch.backfill.dto.BatchBackfillRequestDto;
+import popeye.popeyebackend.batch.backfill.dto.BatchBackfillResponseDto;
 import popeye.popeyebackend.global.security.details.PrincipalDetails;
 import popeye.popeyebackend.report.dto.ReportProcessDto;
 
@@ -23,6 +26,7 @@ import java.util.List;
 @Tag(name = "ADMIN API", description = "관리자 전영 기능(통계, 유저/컨텐츠 관리")
 public class AdminController {
     private final AdminService adminService;
+    private final BatchBackfillService batchBackfillService;
 
     @Operation(summary = "일일 통계", description = "일일 통계를 원하는 날짜만큼 설정해서 불러옵니다.")
     @GetMapping("/statistics")
@@ -96,4 +100,11 @@ public class AdminController {
         adminService.reportProcess(reportId, reportProcessDto, principalDetails.getUserId());
         return ResponseEntity.ok().build();
     }
+
+    @Operation(summary = "배치 백필", description = "정산/통계 배치를 날짜 범위만큼 하루 단위로 다시 실행합니다. 이미 완료된 날짜는 건너뜁니다.")
+    @PostMapping("/batch/backfill")
+    public ResponseEntity<BatchBackfillResponseDto> backfillBatch(
+            @RequestBody BatchBackfillRequestDto dto) {
+        return ResponseEntity.accepted().body(batchBackfillService.backfill(dto));
+    }
 }
@@ -0,0 +1,6 @@
+package popeye.popeyebackend.batch.backfill;
+
+public enum BackfillJobType {
+	SETTLEMENT,
+	STATISTICS
+}
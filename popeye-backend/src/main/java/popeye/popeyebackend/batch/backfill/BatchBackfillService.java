@@ -0,0 +1,199 @@
+package popeye.popeyebackend.batch.backfill;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.batch.backfill.dto.BatchBackfillRequestDto;
+import popeye.popeyebackend.batch.backfill.dto.BatchBackfillResponseDto;
+import popeye.popeyebackend.batch.config.BatchConnectionBudget;
+import popeye.popeyebackend.batch.scheduler.BatchJobParameters;
+import popeye.popeyebackend.batch.settlement.SettlementJobRunner;
+import popeye.popeyebackend.global.exception.ApiException;
+import popeye.popeyebackend.global.exception.ErrorCode;
+
+/**
+ * 정산/통계 배치 백필
+ * 날짜 범위를 하루 단위 Job 실행으로 나누고 (날짜별 식별 파라미터는 정기 실행과 동일)
+ * 이미 완료된 날짜는 건너뛰고 나머지를 실행 (동시 실행 수는 BatchConnectionBudget으로 커넥션 풀에 맞춰 제한)
+ * - 정산: 최대 parallelism개 날짜를 동시에 (날짜마다 주문 범위가 겹치지 않음, SettlementJobRunner가 정기 실행과 합쳐 제한)
+ * - 통계: 날짜 범위를 parallelism개의 연속 구간으로 나눠 구간끼리 동시에, 구간 안에서는 날짜 순서대로
+ *   구간 첫 날은 아직 다른 구간에서 집계 중인 전날 행 대신 범위 시작 전날 행을 기준으로 총 유통량을 계산
+ * 실패한 날짜는 같은 요청을 다시 보내면 같은 JobInstance로 재시작됨
+ */
+@Slf4j
+@Service
+public class BatchBackfillService {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private static final int MAX_DAYS = 366;
+
+	private final JobLauncher jobLauncher;
+	private final JobRepository jobRepository;
+	private final Job settlementJob;
+	private final Job statisticsJob;
+	private final SettlementJobRunner settlementJobRunner;
+	private final AsyncTaskExecutor blockingIoExecutor;
+	private final BatchConnectionBudget batchConnectionBudget;
+	private final int maxParallelism;
+
+	public BatchBackfillService(
+		JobLauncher jobLauncher,
+		JobRepository jobRepository,
+		Job settlementJob,
+		Job statisticsJob,
+		SettlementJobRunner settlementJobRunner,
+		@Qualifier("blockingIoExecutor") AsyncTaskExecutor blockingIoExecutor,
+		BatchConnectionBudget batchConnectionBudget,
+		@Value("${popeye.batch.backfill-max-parallelism:4}") int maxParallelism
+	) {
+		this.jobLauncher = jobLauncher;
+		this.jobRepository = jobRepository;
+		this.settlementJob = settlementJob;
+		this.statisticsJob = statisticsJob;
+		this.settlementJobRunner = settlementJobRunner;
+		this.blockingIoExecutor = blockingIoExecutor;
+		this.batchConnectionBudget = batchConnectionBudget;
+		this.maxParallelism = Math.max(1, maxParallelism);
+	}
+
+	/**
+	 * 실행할 날짜를 정해 백그라운드로 실행시키고 바로 반환
+	 */
+	public BatchBackfillResponseDto backfill(BatchBackfillRequestDto request) {
+		validate(request);
+		boolean settlement = request.jobType() == BackfillJobType.SETTLEMENT;
+		Job job = settlement ? settlementJob : statisticsJob;
+		// Job 실행 하나가 잡는 커넥션 수가 다르므로 동시 실행 수 상한도 Job마다 다름
+		int poolLimit = settlement
+			? batchConnectionBudget.settlementConcurrentJobs()
+			: batchConnectionBudget.statisticsConcurrentJobs();
+		int parallelism = resolveParallelism(request.parallelism(), poolLimit);
+
+		List<LocalDate> scheduled = new ArrayList<>();
+		List<LocalDate> skipped = new ArrayList<>();
+
+		for (LocalDate day = request.fromDate(); !day.isAfter(request.toDate()); day = day.plusDays(1)) {
+			JobParameters params = settlement ? BatchJobParameters.settlement(day) : BatchJobParameters.statistics(day);
+			if (isDoneOrRunning(job, params)) {
+				skipped.add(day);
+				continue;
+			}
+			scheduled.add(day);
+		}
+
+		log.info("배치 백필 접수: job={}, from={}, to={}, scheduled={}, skipped={}, parallelism={}",
+			job.getName(), request.fromDate(), request.toDate(), scheduled.size(), skipped.size(), parallelism);
+
+		if (scheduled.isEmpty()) {
+			return new BatchBackfillResponseDto(scheduled, skipped, parallelism);
+		}
+
+		// 동시 실행 수 제한은 이 백필 요청 안에서만 적용 (제한에 걸리면 다음 제출이 대기)
+		SimpleAsyncTaskExecutor dayExecutor = new SimpleAsyncTaskExecutor("backfill-" + job.getName() + "-");
+		dayExecutor.setVirtualThreads(true);
+		dayExecutor.setConcurrencyLimit(parallelism);
+
+		if (settlement) {
+			blockingIoExecutor.execute(() -> {
+				for (LocalDate day : scheduled) {
+					dayExecutor.execute(() -> launch(job, BatchJobParameters.settlement(day)));
+				}
+			});
+		} else {
+			LocalDate fallbackBase = request.fromDate().minusDays(1);
+			blockingIoExecutor.execute(() -> {
+				for (List<LocalDate> segment : segments(scheduled, parallelism)) {
+					dayExecutor.execute(() -> runStatisticsSegment(segment, scheduled, fallbackBase));
+				}
+			});
+		}
+
+		return new BatchBackfillResponseDto(scheduled, skipped, parallelism);
+	}
+
+	/**
+	 * 구간 안의 날짜를 순서대로 통계 집계
+	 * 전날이 이번 백필 대상이 아니거나 같은 구간에서 이미 완료되었으면 전날 행을 이어받고,
+	 * 그렇지 않으면(다른 구간에서 집계 중이거나 실패) 범위 시작 전날 행을 기준으로 계산
+	 */
+	private void runStatisticsSegment(List<LocalDate> segment, List<LocalDate> scheduled, LocalDate fallbackBase) {
+		LocalDate lastCompleted = null;
+		for (LocalDate day : segment) {
+			LocalDate previous = day.minusDays(1);
+			boolean previousSettled = !scheduled.contains(previous) || previous.equals(lastCompleted);
+			JobParameters params = BatchJobParameters.statistics(day, previousSettled ? null : fallbackBase);
+			if (launch(statisticsJob, params) == BatchStatus.COMPLETED) {
+				lastCompleted = day;
+			}
+		}
+	}
+
+	// 날짜 목록을 순서를 유지한 채 최대 count개의 연속 구간으로 분할
+	private static List<List<LocalDate>> segments(List<LocalDate> days, int count) {
+		int segmentSize = (days.size() + count - 1) / count;
+		List<List<LocalDate>> segments = new ArrayList<>();
+		for (int from = 0; from < days.size(); from += segmentSize) {
+			segments.add(List.copyOf(days.subList(from, Math.min(from + segmentSize, days.size()))));
+		}
+		return segments;
+	}
+
+	private boolean isDoneOrRunning(Job job, JobParameters params) {
+		JobExecution last = jobRepository.getLastJobExecution(job.getName(), params);
+		return last != null && (last.getStatus() == BatchStatus.COMPLETED || last.isRunning());
+	}
+
+	private BatchStatus launch(Job job, JobParameters params) {
+		try {
+			JobExecution execution = job == settlementJob
+				? settlementJobRunner.run(params)
+				: jobLauncher.run(job, params);
+			log.info("배치 백필 실행 완료: job={}, params={}, status={}",
+				job.getName(), params, execution.getStatus());
+			return execution.getStatus();
+		} catch (Exception e) {
+			log.error("배치 백필 실행 실패: job={}, params={}", job.getName(), params, e);
+			return BatchStatus.FAILED;
+		}
+	}
+
+	private void validate(BatchBackfillRequestDto request) {
+		if (request.jobType() == null || request.fromDate() == null || request.toDate() == null) {
+			throw new ApiException(ErrorCode.INVALID_REQUEST);
+		}
+		LocalDate today = LocalDate.now(ZONE);
+		// 오늘 이후는 아직 집계할 데이터가 확정되지 않음
+		if (request.fromDate().isAfter(request.toDate()) || !request.toDate().isBefore(today)) {
+			throw new ApiException(ErrorCode.INVALID_REQUEST);
+		}
+		if (request.fromDate().plusDays(MAX_DAYS).isBefore(request.toDate())) {
+			throw new ApiException(ErrorCode.INVALID_REQUEST);
+		}
+	}
+
+	private int resolveParallelism(Integer requested, int poolLimit) {
+		int limit = Math.min(maxParallelism, poolLimit);
+		if (requested == null) {
+			return limit;
+		}
+		if (requested < 1) {
+			throw new ApiException(ErrorCode.INVALID_REQUEST);
+		}
+		return Math.min(requested, limit);
+	}
+}
@@ -0,0 +1,22 @@
+package popeye.popeyebackend.batch.backfill.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import popeye.popeyebackend.batch.backfill.BackfillJobType;
+
+import java.time.LocalDate;
+
+@Schema(description = "배치 백필 요청 (날짜 범위를 하루 단위 Job으로 나눠 실행)")
+public record BatchBackfillRequestDto(
+	@Schema(description = "실행할 배치", example = "SETTLEMENT")
+	BackfillJobType jobType,
+
+	@Schema(description = "시작 날짜 (포함)", example = "2026-01-01")
+	LocalDate fromDate,
+
+	@Schema(description = "종료 날짜 (포함)", example = "2026-01-07")
+	LocalDate toDate,
+
+	@Schema(description = "동시에 실행할 날짜 수 (커넥션 풀 크기에 맞춰 제한), null이면 허용 최대값")
+	Integer parallelism
+) {
+}
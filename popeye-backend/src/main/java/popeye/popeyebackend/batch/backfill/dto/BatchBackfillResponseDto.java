@@ -0,0 +1,19 @@
+package popeye.popeyebackend.batch.backfill.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "배치 백필 접수 결과")
+public record BatchBackfillResponseDto(
+	@Schema(description = "실행 예약된 날짜")
+	List<LocalDate> scheduledDates,
+
+	@Schema(description = "이미 완료되어 건너뛴 날짜")
+	List<LocalDate> skippedDates,
+
+	@Schema(description = "동시 실행 수")
+	int parallelism
+) {
+}
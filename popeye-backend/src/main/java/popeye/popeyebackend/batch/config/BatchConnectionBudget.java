@@ -0,0 +1,54 @@
+package popeye.popeyebackend.batch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.batch.statistics.DailyStatsTasklet;
+
+/**
+ * 배치가 쓸 수 있는 커넥션 수 계산
+ * 요청 처리/JobRepository 갱신용 headroom을 뺀 나머지를 배치 실행 하나가 점유하는 최대 커넥션 수로 나눠
+ * 정산 파티션 수와 동시에 실행할 Job 수를 정함
+ * - 정산 실행 하나 = 파티션 수 x 2 (chunk 트랜잭션 + Reader 커서)
+ * - 통계 실행 하나 = DailyStatsTasklet.MAX_CONNECTIONS
+ */
+@Slf4j
+@Component
+public class BatchConnectionBudget {
+
+	// 정산 파티션 하나가 동시에 점유하는 커넥션 수 (chunk 트랜잭션 + Reader 커서)
+	private static final int CONNECTIONS_PER_PARTITION = 2;
+
+	private final int available;
+	private final int settlementGridSize;
+
+	public BatchConnectionBudget(
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+		@Value("${popeye.batch.connection-headroom:4}") int connectionHeadroom,
+		@Value("${popeye.batch.settlement-grid-size:4}") int configuredGridSize
+	) {
+		this.available = maximumPoolSize - connectionHeadroom;
+		// 설정된 파티션 수가 (maximumPoolSize - headroom) / 2 를 넘으면 풀 대기로 파티션끼리 서로 막히므로 제한
+		int limit = Math.max(1, available / CONNECTIONS_PER_PARTITION);
+		if (configuredGridSize > limit) {
+			log.warn("정산 파티션 수를 커넥션 풀에 맞춰 제한: configured={}, applied={}, maximumPoolSize={}",
+				configuredGridSize, limit, maximumPoolSize);
+		}
+		this.settlementGridSize = Math.max(1, Math.min(configuredGridSize, limit));
+	}
+
+	public int settlementGridSize() {
+		return settlementGridSize;
+	}
+
+	// 동시에 실행할 수 있는 정산 Job 수 (날짜 하나 = Job 실행 하나)
+	public int settlementConcurrentJobs() {
+		return Math.max(1, available / (settlementGridSize * CONNECTIONS_PER_PARTITION));
+	}
+
+	// 동시에 실행할 수 있는 통계 Job 수
+	public int statisticsConcurrentJobs() {
+		return Math.max(1, available / DailyStatsTasklet.MAX_CONNECTIONS);
+	}
+}
@@ -7,20 +7,29 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.batch.expiration.dto.CreditIdRange;
+import popeye.popeyebackend.batch.expiration.reader.CreditExpirationRangeReader;
+import popeye.popeyebackend.batch.expiration.writer.CreditExpirationWriter;
+import popeye.popeyebackend.batch.settlement.dto.SettlementAggregate;
 import popeye.popeyebackend.batch.settlement.dto.SettlementItemDto;
+import popeye.popeyebackend.batch.settlement.partitioner.SettlementCreatorRangePartitioner;
 import popeye.popeyebackend.batch.settlement.processor.SettlementBatchProcessor;
 import popeye.popeyebackend.batch.settlement.reader.SettlementBatchReader;
 import popeye.popeyebackend.batch.settlement.writer.SettlementBatchWriter;
 import popeye.popeyebackend.batch.statistics.DailyStatsTasklet;
-import popeye.popeyebackend.pay.repository.projection.SettlementAggregateProjection;
 
 /**
  * 정산 배치 Job/Step 정의
  * 비즈니스 로직은 Reader/Processor/Writer에 위임
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class PopeyeBatchConfig {
@@ -30,27 +39,60 @@ public class PopeyeBatchConfig {
 	private final SettlementBatchReader settlementBatchReader;
 	private final SettlementBatchProcessor settlementBatchProcessor;
 	private final SettlementBatchWriter settlementBatchWriter;
+	private final SettlementCreatorRangePartitioner settlementCreatorRangePartitioner;
+
+	private final BatchConnectionBudget batchConnectionBudget;
 
     private final DailyStatsTasklet dailyStatsTasklet;
 
+	private final CreditExpirationRangeReader creditExpirationRangeReader;
+	private final CreditExpirationWriter creditExpirationWriter;
+
 
     @Bean
 	public Job settlementJob() {
 		return new JobBuilder("settlementJob", jobRepository)
-			.start(settlementStep())
+			.start(settlementManagerStep())
+			.build();
+	}
+
+	// creator id 구간별 파티션을 병렬 실행 (파티션마다 독립된 StepExecution으로 재시작 가능)
+	@Bean
+	public Step settlementManagerStep() {
+		return new StepBuilder("settlementManagerStep", jobRepository)
+			.partitioner("settlementStep", settlementCreatorRangePartitioner)
+			.step(settlementStep())
+			.gridSize(batchConnectionBudget.settlementGridSize())
+			.taskExecutor(settlementTaskExecutor())
 			.build();
 	}
 
 	@Bean
 	public Step settlementStep() {
 		return new StepBuilder("settlementStep", jobRepository)
-			.<SettlementAggregateProjection, SettlementItemDto>chunk(100, transactionManager)
+			.<SettlementAggregate, SettlementItemDto>chunk(100, transactionManager)
 			.reader(settlementBatchReader)
 			.processor(settlementBatchProcessor)
 			.writer(settlementBatchWriter)
+			// 다른 날짜의 정산 Job과 집계 테이블 행 잠금이 엇갈리면 chunk를 롤백하고 다시 시도
+			.faultTolerant()
+			.retry(PessimisticLockingFailureException.class)
+			.retryLimit(3)
 			.build();
 	}
 
+	@Bean
+	public TaskExecutor settlementTaskExecutor() {
+		int gridSize = batchConnectionBudget.settlementGridSize();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(gridSize);
+		executor.setMaxPoolSize(gridSize);
+		executor.setThreadNamePrefix("settlement-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
     @Bean
     public Job statisticsJob() {
         return new JobBuilder("statisticsJob", jobRepository)
@@ -64,4 +106,25 @@ public class PopeyeBatchConfig {
                 .tasklet(dailyStatsTasklet, transactionManager)
                 .build();
     }
+
+	@Bean
+	public Job creditExpirationJob() {
+		return new JobBuilder("creditExpirationJob", jobRepository)
+			.start(creditExpirationStep())
+			.build();
+	}
+
+	// id 구간 하나 = chunk 하나 (구간마다 커밋하여 잠금 범위를 제한)
+	@Bean
+	public Step creditExpirationStep() {
+		return new StepBuilder("creditExpirationStep", jobRepository)
+			.<CreditIdRange, CreditIdRange>chunk(1, transactionManager)
+			.reader(creditExpirationRangeReader)
+			.writer(creditExpirationWriter)
+			// 사용자를 먼저 잠근 뒤 대상이 된 크레딧 등 잠금 순서로 막지 못한 교착은 구간을 롤백하고 다시 시도
+			.faultTolerant()
+			.retry(PessimisticLockingFailureException.class)
+			.retryLimit(3)
+			.build();
+	}
 }
@@ -0,0 +1,10 @@
+package popeye.popeyebackend.batch.expiration.dto;
+
+/**
+ * 크레딧 만료 처리 단위: credits.id 구간 [startId, endId)
+ */
+public record CreditIdRange(
+	long startId,
+	long endId
+) {
+}
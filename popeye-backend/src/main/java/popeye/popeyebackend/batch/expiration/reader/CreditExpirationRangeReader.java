@@ -0,0 +1,103 @@
+package popeye.popeyebackend.batch.expiration.reader;
+
+import java.time.LocalDateTime;
+
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import popeye.popeyebackend.batch.expiration.dto.CreditIdRange;
+import popeye.popeyebackend.pay.repository.CreditExpirationJdbcRepository;
+
+/**
+ * 무료 크레딧 만료 배치 Reader
+ * 만료 대상 크레딧의 id 최소~최대 구간을 RANGE_SIZE 단위로 잘라 순서대로 반환
+ * 행을 메모리에 올리지 않으며, 재시작 시 읽은 구간 수로 다음 구간을 계산
+ * 처리된 크레딧은 만료 대상에서 빠져 최소 id가 달라지므로, 재시작 시에는 첫 실행의 구간 경계를 ExecutionContext에서 복원
+ */
+@StepScope
+@Component
+public class CreditExpirationRangeReader extends AbstractItemCountingItemStreamItemReader<CreditIdRange> {
+
+	private static final long RANGE_SIZE = 5_000;
+	private static final String MIN_ID_KEY = "min.id";
+	private static final String MAX_ID_KEY = "max.id";
+
+	@Autowired
+	private CreditExpirationJdbcRepository creditExpirationJdbcRepository;
+
+	@Value("#{jobParameters['expireAt']}")
+	private String expireAtStr;
+
+	private long minId;
+	private long maxId;
+	private boolean empty;
+	private long nextStartId;
+	private long[] restoredBounds;
+
+	public CreditExpirationRangeReader() {
+		setName("creditExpirationRangeReader");
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		if (executionContext.containsKey(getExecutionContextKey(MAX_ID_KEY))) {
+			restoredBounds = new long[] {
+				executionContext.getLong(getExecutionContextKey(MIN_ID_KEY)),
+				executionContext.getLong(getExecutionContextKey(MAX_ID_KEY))
+			};
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		if (restoredBounds != null) {
+			minId = restoredBounds[0];
+			maxId = restoredBounds[1];
+			empty = false;
+		} else {
+			LocalDateTime expireAt = LocalDateTime.parse(expireAtStr);
+			creditExpirationJdbcRepository.findExpiredIdBounds(expireAt).ifPresentOrElse(bounds -> {
+				minId = bounds[0];
+				maxId = bounds[1];
+				empty = false;
+			}, () -> empty = true);
+		}
+		nextStartId = minId;
+	}
+
+	@Override
+	protected CreditIdRange doRead() throws Exception {
+		if (empty || nextStartId > maxId) {
+			return null;
+		}
+		long endId = nextStartId + RANGE_SIZE;
+		CreditIdRange range = new CreditIdRange(nextStartId, endId);
+		nextStartId = endId;
+		return range;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		super.update(executionContext);
+		if (isSaveState() && !empty) {
+			executionContext.putLong(getExecutionContextKey(MIN_ID_KEY), minId);
+			executionContext.putLong(getExecutionContextKey(MAX_ID_KEY), maxId);
+		}
+	}
+
+	// 재시작: 복원한 경계 기준으로 이미 처리한 구간은 다시 조회하지 않고 건너뜀
+	@Override
+	protected void jumpToItem(int itemIndex) throws Exception {
+		nextStartId = minId + RANGE_SIZE * itemIndex;
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		empty = true;
+	}
+}
@@ -0,0 +1,48 @@
+package popeye.popeyebackend.batch.expiration.writer;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.batch.expiration.dto.CreditIdRange;
+import popeye.popeyebackend.pay.repository.CreditExpirationJdbcRepository;
+
+/**
+ * 무료 크레딧 만료 배치 Writer
+ * id 구간마다 집합 기반 SQL(INSERT ... SELECT / 집계 UPDATE / 일괄 0 처리) 실행
+ * chunk 트랜잭션 단위로 커밋되어 잠금 유지 시간이 구간 크기로 제한됨
+ */
+@Slf4j
+@StepScope
+@Component
+@RequiredArgsConstructor
+public class CreditExpirationWriter implements ItemWriter<CreditIdRange> {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private final CreditExpirationJdbcRepository creditExpirationJdbcRepository;
+
+	@Value("#{jobParameters['expireAt']}")
+	private String expireAtStr;
+
+	@Override
+	public void write(Chunk<? extends CreditIdRange> chunk) throws Exception {
+		LocalDateTime expireAt = LocalDateTime.parse(expireAtStr);
+		LocalDateTime changedAt = LocalDateTime.now(ZONE);
+
+		for (CreditIdRange range : chunk) {
+			int expired = creditExpirationJdbcRepository.expireRange(
+				range.startId(), range.endId(), expireAt, changedAt);
+			if (expired > 0) {
+				log.info("무료 크레딧 만료 처리: id=[{}, {}), 행={}", range.startId(), range.endId(), expired);
+			}
+		}
+	}
+}
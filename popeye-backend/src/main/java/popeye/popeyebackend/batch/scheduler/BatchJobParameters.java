@@ -0,0 +1,48 @@
+package popeye.popeyebackend.batch.scheduler;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+/**
+ * 일 단위 배치 JobParameters 생성
+ * 같은 날짜는 항상 같은 식별 파라미터가 되도록 만들어 하루 = JobInstance 하나로 고정
+ * (정기 실행과 백필이 같은 인스턴스를 공유하므로 완료된 날짜는 다시 실행되지 않고, 실패한 날짜는 재시작됨)
+ */
+public final class BatchJobParameters {
+
+	public static final String SETTLEMENT_FEE_RATE = "0.10";
+
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+	private BatchJobParameters() {
+	}
+
+	// 해당 날짜 00:00 ~ 다음날 00:00 주문 정산
+	public static JobParameters settlement(LocalDate day) {
+		return new JobParametersBuilder()
+			.addString("fromDate", day.atStartOfDay().format(FORMATTER))
+			.addString("toDate", day.plusDays(1).atStartOfDay().format(FORMATTER))
+			.addString("feeRate", SETTLEMENT_FEE_RATE)
+			.toJobParameters();
+	}
+
+	public static JobParameters statistics(LocalDate day) {
+		return statistics(day, null);
+	}
+
+	/**
+	 * @param baseDate 총 유통량을 이어받을 기준일 통계 행 (비식별 파라미터, null이면 전날)
+	 *                 여러 날짜를 동시에 집계할 때 아직 갱신 중인 전날 행 대신 확정된 날짜의 행을 이어받기 위함
+	 */
+	public static JobParameters statistics(LocalDate day, LocalDate baseDate) {
+		JobParametersBuilder builder = new JobParametersBuilder()
+			.addString("targetDate", day.toString());
+		if (baseDate != null) {
+			builder.addString("baseDate", baseDate.toString(), false);
+		}
+		return builder.toJobParameters();
+	}
+}
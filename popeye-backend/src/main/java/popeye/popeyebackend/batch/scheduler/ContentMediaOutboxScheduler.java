@@ -0,0 +1,45 @@
+package popeye.popeyebackend.batch.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.content.enums.OutboxStatus;
+import popeye.popeyebackend.content.repository.ContentMediaOutboxRepository;
+import popeye.popeyebackend.content.service.ContentMediaExtractionWorker;
+import popeye.popeyebackend.content.service.ContentMediaOutboxProcessor;
+
+/**
+ * 미디어 추출 아웃박스 복구 스케줄러
+ * 이벤트 유실(서버 재시작, 큐 포화)로 남은 PENDING 작업을 워커에 다시 제출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentMediaOutboxScheduler {
+
+	private static final int SWEEP_SIZE = 100;
+
+	private final ContentMediaOutboxRepository outboxRepository;
+	private final ContentMediaOutboxProcessor outboxProcessor;
+	private final ContentMediaExtractionWorker extractionWorker;
+
+	@Scheduled(fixedDelay = 60_000)
+	public void resubmitPending() {
+		LocalDateTime now = LocalDateTime.now();
+
+		int released = outboxProcessor.releaseStale(now.minusMinutes(10));
+		if (released > 0) {
+			log.warn("처리 중 멈춘 미디어 추출 작업 복구. 건수= {}", released);
+		}
+
+		List<Long> pendingIds = outboxRepository.findIdsByStatusCreatedBefore(
+			OutboxStatus.PENDING, now.minusMinutes(1), PageRequest.of(0, SWEEP_SIZE));
+		pendingIds.forEach(extractionWorker::submit);
+	}
+}
@@ -0,0 +1,29 @@
+package popeye.popeyebackend.batch.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.content.service.ContentTrendingService;
+
+/**
+ * 인기 콘텐츠 랭킹 갱신 스케줄러
+ * 시간 버킷 점수를 감쇠 가중치로 합산하여 trending:contents 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentTrendingScheduler {
+
+	private final ContentTrendingService contentTrendingService;
+
+	@Scheduled(fixedDelay = 300_000)
+	public void rebuildTrending() {
+		try {
+			contentTrendingService.rebuild();
+		} catch (Exception e) {
+			log.error("인기 콘텐츠 랭킹 갱신 실패", e);
+		}
+	}
+}
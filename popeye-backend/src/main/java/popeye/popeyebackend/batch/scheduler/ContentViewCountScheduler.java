@@ -0,0 +1,49 @@
+package popeye.popeyebackend.batch.scheduler;
+
+import java.util.Map;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.content.repository.ContentViewCountRepository;
+import popeye.popeyebackend.content.service.ContentViewCountBuffer;
+
+/**
+ * 조회수 반영 스케줄러
+ * ContentViewCountBuffer에 누적된 조회수를 주기적으로 contents.view_count에 일괄 반영
+ * 종료 시 남은 증가분도 반영 (Repository/DataSource는 이 빈보다 나중에 정리됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentViewCountScheduler {
+
+	private final ContentViewCountBuffer contentViewCountBuffer;
+	private final ContentViewCountRepository contentViewCountRepository;
+
+	@Scheduled(fixedDelayString = "${popeye.content.view-count-flush-ms:10000}")
+	public void flushViewCounts() {
+		Map<Long, Long> deltas = contentViewCountBuffer.drain();
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		try {
+			contentViewCountRepository.increaseViewCounts(deltas);
+			log.debug("조회수 반영 완료. 콘텐츠 수= {}", deltas.size());
+		} catch (Exception e) {
+			// 다음 주기에 다시 반영되도록 증가분 복구
+			contentViewCountBuffer.restore(deltas);
+			log.error("조회수 반영 실패", e);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flushViewCounts();
+	}
+}
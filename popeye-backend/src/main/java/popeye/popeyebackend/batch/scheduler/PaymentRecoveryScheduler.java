@@ -0,0 +1,56 @@
+package popeye.popeyebackend.batch.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.pay.enums.PaymentType;
+import popeye.popeyebackend.pay.repository.PaymentRepository;
+import popeye.popeyebackend.pay.service.PaymentRecoveryService;
+
+/**
+ * 결제 복구 스케줄러
+ * PG 호출 후 일정 시간 이상 PENDING/CANCEL_PENDING으로 남은 결제를 Toss 조회 결과로 확정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryScheduler {
+
+	private static final int SWEEP_SIZE = 100;
+	// 정상 처리 중인 요청과 겹치지 않도록 충분히 지난 건만 대상으로 함
+	private static final long STALE_MINUTES = 5;
+
+	private final PaymentRepository paymentRepository;
+	private final PaymentRecoveryService paymentRecoveryService;
+
+	@Scheduled(fixedDelay = 60_000)
+	public void recoverPendingPayments() {
+		LocalDateTime before = LocalDateTime.now().minusMinutes(STALE_MINUTES);
+
+		List<Long> pendingIds = paymentRepository.findIdsByPaymentTypeAndPendingAtBefore(
+			PaymentType.PENDING, before, PageRequest.of(0, SWEEP_SIZE));
+		for (Long paymentId : pendingIds) {
+			try {
+				paymentRecoveryService.recoverConfirm(paymentId);
+			} catch (Exception e) {
+				log.error("PENDING 결제 복구 실패: paymentId={}", paymentId, e);
+			}
+		}
+
+		List<Long> cancelPendingIds = paymentRepository.findIdsByPaymentTypeAndPendingAtBefore(
+			PaymentType.CANCEL_PENDING, before, PageRequest.of(0, SWEEP_SIZE));
+		for (Long paymentId : cancelPendingIds) {
+			try {
+				paymentRecoveryService.recoverRefund(paymentId);
+			} catch (Exception e) {
+				log.error("CANCEL_PENDING 결제 복구 실패: paymentId={}", paymentId, e);
+			}
+		}
+	}
+}
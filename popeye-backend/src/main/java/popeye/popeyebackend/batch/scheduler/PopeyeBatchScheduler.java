@@ -14,12 +14,12 @@ import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import popeye.popeyebackend.pay.service.CreditExpirationService;
+import popeye.popeyebackend.batch.settlement.SettlementJobRunner;
 
 /**
  * 정산 배치 스케줄러
  * 매일 자정 KST에 전날 주문 정산 실행
- * JobParameters로 날짜 범위 전달
+ * JobParameters로 날짜 범위 전달 (지난 날짜 재실행은 BatchBackfillService)
  */
 @Slf4j
 @Component
@@ -27,15 +27,13 @@ import popeye.popeyebackend.pay.service.CreditExpirationService;
 public class PopeyeBatchScheduler {
 
 	private final JobLauncher jobLauncher;
-	private final Job settlementJob;
+	private final SettlementJobRunner settlementJobRunner;
     private final Job statisticsJob;
-
-    private final CreditExpirationService creditExpirationService;
+    private final Job creditExpirationJob;
 
 
     private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
 	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-	private static final double FEE_RATE = 0.10;
 
 	/**
 	 * 매일 자정(00:00) KST에 전날 주문 정산 실행
@@ -45,22 +43,12 @@ public class PopeyeBatchScheduler {
 		log.info("Daily settlement batch started");
 
 		try {
-			// 어제 날짜 범위 계산
-			LocalDate today = LocalDate.now(ZONE);
-			LocalDateTime from = today.minusDays(1).atStartOfDay();
-			LocalDateTime to = today.atStartOfDay();
-
-			// JobParameters 생성
-			// run.id는 나노초 기반으로 생성하여 동일 밀리초 실행 시 충돌 방지
-			JobParameters jobParameters = new JobParametersBuilder()
-				.addString("fromDate", from.format(FORMATTER))
-				.addString("toDate", to.format(FORMATTER))
-				.addString("feeRate", String.valueOf(FEE_RATE))
-				.addLong("run.id", System.nanoTime())
-				.toJobParameters();
-
-			// Job 실행
-			jobLauncher.run(settlementJob, jobParameters);
+			// 어제 하루 범위 (날짜별로 고정된 식별 파라미터, 백필과 같은 JobInstance)
+			LocalDate yesterday = LocalDate.now(ZONE).minusDays(1);
+			JobParameters jobParameters = BatchJobParameters.settlement(yesterday);
+
+			// Job 실행 (백필이 실행 중이면 끝난 뒤 실행)
+			settlementJobRunner.run(jobParameters);
 
 			log.info("Daily settlement batch completed successfully");
 		} catch (Exception e) {
@@ -72,16 +60,27 @@ public class PopeyeBatchScheduler {
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul") // 초 분 시 일 월 요일
     public void expireFreeCreditsDaily(){
         log.info("무료 크레딧 만료 스케줄러 시작");
-        int updated = creditExpirationService.expireFreeCreditsNow();
-        log.info("크레딧 만료 처리 완료. 업데이트된 행 개수= {}", updated);
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("expireAt", LocalDateTime.now(ZONE).format(FORMATTER))
+                    .addLong("run.id", System.nanoTime())
+                    .toJobParameters();
+
+            jobLauncher.run(creditExpirationJob, jobParameters);
+            log.info("크레딧 만료 처리 완료");
+        } catch (Exception e) {
+            log.error("크레딧 만료 배치 실패", e);
+        }
     }
 
-    @Scheduled(cron = "0 10 0 * * *")
+    /**
+     * 매일 00:10 KST에 전날 통계 집계
+     * targetDate가 식별 파라미터이므로 실패한 날짜는 같은 파라미터로 재시작되고, 완료된 날짜는 다시 실행되지 않음
+     */
+    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
     public void runDailyStatistics() {
         try {
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters();
+            JobParameters jobParameters = BatchJobParameters.statistics(LocalDate.now(ZONE).minusDays(1));
 
             jobLauncher.run(statisticsJob, jobParameters);
         } catch (Exception e) {
@@ -0,0 +1,41 @@
+package popeye.popeyebackend.batch.settlement;
+
+import java.util.concurrent.Semaphore;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.stereotype.Component;
+
+import popeye.popeyebackend.batch.config.BatchConnectionBudget;
+
+/**
+ * 정산 Job 실행 창구 (정기 실행, 백필 공통)
+ * 동시에 실행하는 정산 Job 수를 커넥션 풀이 감당할 수 있는 수(BatchConnectionBudget)로 제한
+ * - 날짜마다 주문 범위가 겹치지 않으므로 서로 다른 날짜의 Job은 같은 주문을 정산하지 않음
+ * - 집계 테이블 upsert는 contentId 순서로 잠그고, 잠금 충돌로 롤백된 chunk는 Step에서 재시도
+ * 자리가 없으면 앞선 실행이 끝날 때까지 대기 (JobLauncher는 동기 실행)
+ */
+@Component
+public class SettlementJobRunner {
+
+	private final JobLauncher jobLauncher;
+	private final Job settlementJob;
+	private final Semaphore permits;
+
+	public SettlementJobRunner(JobLauncher jobLauncher, Job settlementJob, BatchConnectionBudget batchConnectionBudget) {
+		this.jobLauncher = jobLauncher;
+		this.settlementJob = settlementJob;
+		this.permits = new Semaphore(batchConnectionBudget.settlementConcurrentJobs(), true);
+	}
+
+	public JobExecution run(JobParameters params) throws Exception {
+		permits.acquire();
+		try {
+			return jobLauncher.run(settlementJob, params);
+		} finally {
+			permits.release();
+		}
+	}
+}
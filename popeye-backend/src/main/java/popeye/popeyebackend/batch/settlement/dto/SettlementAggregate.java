@@ -0,0 +1,14 @@
+package popeye.popeyebackend.batch.settlement.dto;
+
+/**
+ * 정산 배치 Reader가 읽는 (creator, content)별 미정산 매출 집계 한 행
+ * maxOrderId/orderCount는 이 집계에 포함된 주문 집합을 Writer에서 그대로 정산 처리하기 위한 값
+ */
+public record SettlementAggregate(
+	Long creatorId,
+	Long contentId,
+	Long grossSum,
+	Long maxOrderId,
+	Long orderCount
+) {
+}
@@ -3,18 +3,15 @@ package popeye.popeyebackend.batch.settlement.dto;
 /**
  * 정산 배치 Processor에서 생성하는 DTO
  * Reader가 읽은 집계 결과를 Processor가 처리한 후 Writer로 전달
+ * maxOrderId/orderCount: 집계에 포함된 주문의 워터마크와 건수 (Writer가 같은 주문만 정산 처리)
  */
 public record SettlementItemDto(
 	Long creatorId,
 	Long contentId,
 	Long grossSum,
 	Long netAmount,
-	Integer feeRate
+	Integer feeRate,
+	Long maxOrderId,
+	Long orderCount
 ) {
 }
-
-
-
-
-
-
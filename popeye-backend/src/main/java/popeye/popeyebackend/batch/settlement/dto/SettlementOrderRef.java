@@ -0,0 +1,10 @@
+package popeye.popeyebackend.batch.settlement.dto;
+
+/**
+ * 정산 chunk에서 settlement=true로 처리할 주문 한 건
+ */
+public record SettlementOrderRef(
+	Long orderId,
+	Long contentId
+) {
+}
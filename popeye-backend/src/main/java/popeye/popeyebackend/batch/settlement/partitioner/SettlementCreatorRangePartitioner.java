@@ -0,0 +1,57 @@
+package popeye.popeyebackend.batch.settlement.partitioner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산 배치 Partitioner
+ * creators.id 최소~최대 범위를 gridSize개의 구간으로 나눠 파티션별 [minCreatorId, maxCreatorId] 전달
+ * 파티션 이름이 고정(partition0..N)이므로 재시작 시 실패한 파티션만 이어서 실행됨
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementCreatorRangePartitioner implements Partitioner {
+
+	public static final String MIN_CREATOR_ID = "minCreatorId";
+	public static final String MAX_CREATOR_ID = "maxCreatorId";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Map<String, Long> bounds = jdbcTemplate.queryForObject(
+			"SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM creators",
+			(rs, rowNum) -> {
+				Map<String, Long> m = new HashMap<>();
+				long min = rs.getLong("min_id");
+				m.put("min", rs.wasNull() ? null : min);
+				m.put("max", rs.getLong("max_id"));
+				return m;
+			});
+
+		Map<String, ExecutionContext> partitions = new HashMap<>();
+		if (bounds == null || bounds.get("min") == null) {
+			return partitions;
+		}
+
+		long min = bounds.get("min");
+		long max = bounds.get("max");
+		long rangeSize = Math.max(1, (max - min) / gridSize + 1);
+
+		int index = 0;
+		for (long start = min; start <= max; start += rangeSize) {
+			ExecutionContext context = new ExecutionContext();
+			context.putLong(MIN_CREATOR_ID, start);
+			context.putLong(MAX_CREATOR_ID, Math.min(start + rangeSize - 1, max));
+			partitions.put("partition" + index++, context);
+		}
+		return partitions;
+	}
+}
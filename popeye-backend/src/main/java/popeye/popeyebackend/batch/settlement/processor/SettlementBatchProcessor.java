@@ -9,8 +9,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import popeye.popeyebackend.batch.settlement.dto.SettlementAggregate;
 import popeye.popeyebackend.batch.settlement.dto.SettlementItemDto;
-import popeye.popeyebackend.pay.repository.projection.SettlementAggregateProjection;
 
 /**
  * 정산 배치 Processor
@@ -21,16 +21,16 @@ import popeye.popeyebackend.pay.repository.projection.SettlementAggregateProject
 @Component
 @RequiredArgsConstructor
 public class SettlementBatchProcessor
-	implements ItemProcessor<SettlementAggregateProjection, SettlementItemDto> {
+	implements ItemProcessor<SettlementAggregate, SettlementItemDto> {
 
 	@Value("#{jobParameters['feeRate'] ?: '0.10'}")
 	private String feeRateStr;
 
 	@Override
-	public SettlementItemDto process(SettlementAggregateProjection item) throws Exception {
-		Long creatorId = item.getCreatorId();
-		Long contentId = item.getContentId();
-		Long grossSum = item.getGrossSum() != null ? item.getGrossSum() : 0L;
+	public SettlementItemDto process(SettlementAggregate item) throws Exception {
+		Long creatorId = item.creatorId();
+		Long contentId = item.contentId();
+		Long grossSum = item.grossSum() != null ? item.grossSum() : 0L;
 
 		// 수수료율 계산
 		BigDecimal feeRate = BigDecimal.valueOf(Double.parseDouble(feeRateStr));
@@ -39,7 +39,8 @@ public class SettlementBatchProcessor
 		// net 계산 (버림)
 		Long netAmount = calculateNet(grossSum, feeRate);
 
-		return new SettlementItemDto(creatorId, contentId, grossSum, netAmount, feeRatePercent);
+		return new SettlementItemDto(creatorId, contentId, grossSum, netAmount, feeRatePercent,
+			item.maxOrderId(), item.orderCount());
 	}
 
 	/**
@@ -1,77 +1,75 @@
 package popeye.popeyebackend.batch.settlement.reader;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.List;
 
-import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import javax.sql.DataSource;
+
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import popeye.popeyebackend.pay.repository.OrderSettlementRepository;
-import popeye.popeyebackend.pay.repository.projection.SettlementAggregateProjection;
+import popeye.popeyebackend.batch.settlement.dto.SettlementAggregate;
 
 /**
  * 정산 배치 Reader
- * JobParameters로부터 날짜 범위를 받아 정산 대상만 조회
- * 
- * [주의사항] 메모리 사용:
- * - 현재 구현은 전체 데이터를 메모리에 로드합니다.
- * - 대량 데이터 처리 시 OOM(Out of Memory) 위험이 있습니다.
- * - 향후 개선: 커서 기반 페이징 또는 JdbcCursorItemReader 사용 권장
+ * JobParameters의 날짜 범위와 파티션의 creator 구간에 해당하는 미정산 주문을
+ * (creator, content)별로 집계하여 커서로 한 행씩 읽음 (전체 결과를 메모리에 올리지 않음)
+ *
+ * 그룹별 MAX(order_id)/COUNT(*)를 함께 읽어 Writer가 집계한 주문만 정산 처리하도록 함
+ *
+ * 읽은 건수는 저장하지 않음 (saveState=false)
+ * Writer가 chunk마다 주문을 settlement=true로 커밋하므로 재시작 시 같은 쿼리를 다시 실행하면
+ * 이미 처리한 집계는 결과에서 빠짐 (건수만큼 건너뛰면 처리하지 않은 집계를 건너뛰게 됨)
  */
 @StepScope
 @Component
-public class SettlementBatchReader extends AbstractItemCountingItemStreamItemReader<SettlementAggregateProjection> {
-
-	@Autowired
-	private OrderSettlementRepository orderSettlementRepository;
-
-	@Value("#{jobParameters['fromDate']}")
-	private String fromDateStr;
-
-	@Value("#{jobParameters['toDate']}")
-	private String toDateStr;
-
-	private List<SettlementAggregateProjection> aggregates;
-	private int currentIndex = 0;
-
-	public SettlementBatchReader() {
+public class SettlementBatchReader extends JdbcCursorItemReader<SettlementAggregate> {
+
+	private static final String AGGREGATE_SQL = """
+		SELECT c.creator_id AS creator_id,
+		       o.content_id AS content_id,
+		       COALESCE(SUM(o.credit_used), 0) AS gross_sum,
+		       MAX(o.order_id) AS max_order_id,
+		       COUNT(*) AS order_count
+		FROM `orders` o
+		JOIN `contents` c ON c.id = o.content_id
+		WHERE o.order_status = 'COMPLETED'
+		  AND o.settlement = false
+		  AND o.created_at >= ?
+		  AND o.created_at < ?
+		  AND c.creator_id BETWEEN ? AND ?
+		GROUP BY c.creator_id, o.content_id
+		ORDER BY c.creator_id, o.content_id
+		""";
+
+	public SettlementBatchReader(
+		DataSource dataSource,
+		@Value("#{jobParameters['fromDate']}") String fromDateStr,
+		@Value("#{jobParameters['toDate']}") String toDateStr,
+		@Value("#{stepExecutionContext['minCreatorId']}") Long minCreatorId,
+		@Value("#{stepExecutionContext['maxCreatorId']}") Long maxCreatorId
+	) {
 		setName("settlementBatchReader");
-	}
-
-	@Override
-	protected SettlementAggregateProjection doRead() throws Exception {
-		// 첫 호출 시 데이터 조회 (전체 데이터를 메모리에 로드)
-		// 대량 데이터 처리 시 메모리 부족 가능성 있음
-		if (aggregates == null) {
-			LocalDateTime from = LocalDateTime.parse(fromDateStr);
-			LocalDateTime to = LocalDateTime.parse(toDateStr);
-
-			aggregates = orderSettlementRepository.aggregateGrossByCreatorAndContent(from, to);
-			currentIndex = 0;
-		}
-
-		// 모든 데이터를 읽었으면 null 반환 (배치 종료)
-		if (currentIndex >= aggregates.size()) {
-			return null;
-		}
-
-		// 다음 항목 반환
-		return aggregates.get(currentIndex++);
-	}
-
-	@Override
-	protected void doOpen() throws Exception {
-		// 초기화 로직 (필요시)
-	}
-
-	@Override
-	protected void doClose() throws Exception {
-		// 정리 로직 (필요시)
-		aggregates = null;
-		currentIndex = 0;
+		setDataSource(dataSource);
+		setSql(AGGREGATE_SQL);
+		// MySQL 스트리밍 모드 (결과를 한 번에 가져오지 않고 행 단위로 전송)
+		setFetchSize(Integer.MIN_VALUE);
+		setVerifyCursorPosition(false);
+		setSaveState(false);
+		setPreparedStatementSetter(ps -> {
+			ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.parse(fromDateStr)));
+			ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.parse(toDateStr)));
+			ps.setLong(3, minCreatorId);
+			ps.setLong(4, maxCreatorId);
+		});
+		setRowMapper((rs, rowNum) -> new SettlementAggregate(
+			rs.getLong("creator_id"),
+			rs.getLong("content_id"),
+			rs.getLong("gross_sum"),
+			rs.getLong("max_order_id"),
+			rs.getLong("order_count")
+		));
 	}
 }
-
@@ -2,8 +2,10 @@ package popeye.popeyebackend.batch.settlement.writer;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -13,28 +15,29 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import popeye.popeyebackend.content.domain.Content;
-import popeye.popeyebackend.content.repository.ContentRepository;
 import popeye.popeyebackend.batch.settlement.dto.SettlementItemDto;
-import popeye.popeyebackend.pay.domain.Settlement;
-import popeye.popeyebackend.pay.repository.OrderSettlementRepository;
-import popeye.popeyebackend.pay.repository.SettlementRepository;
-import popeye.popeyebackend.user.domain.Creator;
-import popeye.popeyebackend.user.repository.CreatorRepository;
+import popeye.popeyebackend.batch.settlement.dto.SettlementOrderRef;
+import popeye.popeyebackend.pay.repository.OrderSettlementJdbcRepository;
+import popeye.popeyebackend.pay.repository.SettlementJdbcRepository;
+import popeye.popeyebackend.pay.repository.SettlementRollupJdbcRepository;
 
 /**
  * 정산 배치 Writer
  * Processor가 생성한 SettlementItemDto를 받아 DB 저장 및 Order 업데이트
+ *
+ * chunk마다 해당 chunk가 집계한 주문만 같은 트랜잭션에서 정산 처리
+ * - 콘텐츠별 집계 시점의 MAX(order_id) 이하, 기간 내 미정산 주문을 다시 조회해 건수가 집계와 같은지 확인
+ * - 주문 PK 단위로 settlement=true 처리 (이미 정산된 주문이 섞이면 chunk 전체 롤백)
+ * 따라서 chunk가 커밋되면 정산 금액과 정산 표시가 항상 함께 반영되고, 재시작 시 중복 정산되지 않음
  */
 @StepScope
 @Component
 @RequiredArgsConstructor
 public class SettlementBatchWriter implements ItemWriter<SettlementItemDto> {
 
-	private final SettlementRepository settlementRepository;
-	private final OrderSettlementRepository orderSettlementRepository;
-	private final CreatorRepository creatorRepository;
-	private final ContentRepository contentRepository;
+	private final SettlementJdbcRepository settlementJdbcRepository;
+	private final SettlementRollupJdbcRepository settlementRollupJdbcRepository;
+	private final OrderSettlementJdbcRepository orderSettlementJdbcRepository;
 
 	@Value("#{jobParameters['fromDate']}")
 	private String fromDateStr;
@@ -44,68 +47,59 @@ public class SettlementBatchWriter implements ItemWriter<SettlementItemDto> {
 
 	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public void write(Chunk<? extends SettlementItemDto> chunk) throws Exception {
-		List<SettlementItemDto> items = (List<SettlementItemDto>) chunk.getItems();
+		List<? extends SettlementItemDto> items = chunk.getItems();
 
 		if (items.isEmpty()) {
 			return;
 		}
 
-		// creator, content 엔티티를 한 번에 조회하여 N+1 문제 방지
-		List<Long> creatorIds = items.stream()
-			.map(SettlementItemDto::creatorId)
-			.distinct()
-			.toList();
-		List<Long> contentIds = items.stream()
-			.map(SettlementItemDto::contentId)
-			.distinct()
-			.toList();
-
-		// Creator와 Content 엔티티 조회
-		Map<Long, Creator> creatorMap = creatorRepository.findAllById(creatorIds).stream()
-			.collect(Collectors.toMap(
-				Creator::getId,
-				creator -> creator
-			));
-		Map<Long, Content> contentMap = contentRepository.findAllById(contentIds).stream()
-			.collect(Collectors.toMap(
-				Content::getId,
-				content -> content
-			));
+		// 이 chunk가 집계한 주문만 정산 완료 표시
+		markAggregatedOrders(items);
 
+		// Settlement 일괄 저장 (creator/content 엔티티 조회 없이 ID로 저장)
+		// Reader가 contents와 조인해 읽으므로 creator/content ID는 항상 존재함
 		LocalDateTime settledAt = LocalDateTime.now(ZONE);
+		settlementJdbcRepository.batchInsert(items, settledAt);
 
-		// Settlement 저장
-		for (SettlementItemDto item : items) {
-			Creator creator = creatorMap.get(item.creatorId());
-			Content content = contentMap.get(item.contentId());
+		// 대시보드용 집계 테이블 누적 (같은 chunk 트랜잭션이므로 settlements와 함께 커밋/롤백)
+		settlementRollupJdbcRepository.accumulate(items, settledAt);
+	}
 
-			if (creator == null || content == null) {
-				continue; // 데이터 무결성 문제 시 스킵
-			}
+	private void markAggregatedOrders(List<? extends SettlementItemDto> items) {
+		LocalDateTime from = LocalDateTime.parse(fromDateStr);
+		LocalDateTime to = LocalDateTime.parse(toDateStr);
+
+		// Reader가 (creator, content)로 그룹화하므로 chunk 안에서 contentId는 유일
+		Map<Long, SettlementItemDto> itemByContent = items.stream()
+			.collect(Collectors.toMap(SettlementItemDto::contentId, Function.identity()));
+		long chunkMaxOrderId = items.stream().mapToLong(SettlementItemDto::maxOrderId).max().orElse(0L);
 
-			Settlement settlement = Settlement.builder()
-				.totalAmount(item.netAmount())
-				.feeRate(item.feeRate())
-				.settledAt(settledAt)
-				.creator(creator)
-				.content(content)
-				.build();
+		List<SettlementOrderRef> candidates = orderSettlementJdbcRepository.findUnsettledOrders(
+			itemByContent.keySet(), from, to, chunkMaxOrderId);
 
-			settlementRepository.save(settlement);
+		// 콘텐츠별 워터마크 이하만 이 chunk의 정산 대상
+		Map<Long, List<Long>> orderIdsByContent = candidates.stream()
+			.filter(ref -> ref.orderId() <= itemByContent.get(ref.contentId()).maxOrderId())
+			.collect(Collectors.groupingBy(SettlementOrderRef::contentId,
+				Collectors.mapping(SettlementOrderRef::orderId, Collectors.toList())));
+
+		List<Long> orderIds = new ArrayList<>();
+		for (SettlementItemDto item : items) {
+			List<Long> ids = orderIdsByContent.getOrDefault(item.contentId(), List.of());
+			if (ids.size() != item.orderCount()) {
+				// 읽은 뒤 주문 상태가 바뀜 -> 롤백 후 재시작 시 다시 집계
+				throw new IllegalStateException("정산 집계와 주문 건수 불일치: contentId=" + item.contentId()
+					+ ", expected=" + item.orderCount() + ", actual=" + ids.size());
+			}
+			orderIds.addAll(ids);
 		}
 
-		// 정산 완료된 주문 표시 (마지막 chunk에서만 실행)
-		// [주의] chunk.isEnd()는 Spring Batch 5.x에서 정확히 동작하지만,
-		// 배치 프레임워크 버전에 따라 동작 차이가 있을 수 있으므로 주의 필요
-		if (chunk.isEnd()) {
-			LocalDateTime from = LocalDateTime.parse(fromDateStr);
-			LocalDateTime to = LocalDateTime.parse(toDateStr);
-			orderSettlementRepository.markOrdersAsSettled(from, to);
+		int updated = orderSettlementJdbcRepository.markSettled(orderIds);
+		if (updated != orderIds.size()) {
+			throw new IllegalStateException("이미 정산된 주문 포함: expected=" + orderIds.size() + ", updated=" + updated);
 		}
 	}
 
 }
-
@@ -1,15 +1,20 @@
 package popeye.popeyebackend.batch.statistics;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 import popeye.popeyebackend.dailystatistics.domain.DailyStatistics;
 import popeye.popeyebackend.dailystatistics.repository.DailyStatisticsRepository;
 import popeye.popeyebackend.pay.enums.CreditType;
 import popeye.popeyebackend.pay.enums.PaymentType;
+import popeye.popeyebackend.pay.repository.CreditHistoryRepository;
 import popeye.popeyebackend.pay.repository.CreditRepository;
 import popeye.popeyebackend.pay.repository.OrderRepository;
 import popeye.popeyebackend.pay.repository.PaymentRepository;
@@ -18,58 +23,162 @@ import popeye.popeyebackend.user.repository.UserRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
-
+/**
+ * 일일 통계 Tasklet
+ * - 집계 날짜는 jobParameters의 targetDate (없으면 어제), 같은 날짜를 다시 실행하면 기존 행을 덮어씀
+ * - 하루치 집계(매출/정산/가입/발급/사용/잔액 변동)는 서로 독립적이므로 병렬 실행 (동시 쿼리 수는 QUERY_CONCURRENCY로 제한)
+ * - 총 유통량은 users 전체 합계 대신 기준일(baseDate, 기본은 전날) 통계 행 + 기준일 다음 날부터 당일까지의 잔액 변동으로 계산
+ *   (병렬 백필은 구간 시작 전날을 기준일로 넘겨 아직 집계 중인 날짜의 행을 이어받지 않음)
+ * - 기준일 행이 없을 때만 잔액 합계에서 역산
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
+@StepScope
 public class DailyStatsTasklet implements Tasklet {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 동시에 실행하는 집계 쿼리 수
+    private static final int QUERY_CONCURRENCY = 3;
+    // 실행 하나가 동시에 점유할 수 있는 최대 커넥션 수 (집계 쿼리 + Step 트랜잭션)
+    public static final int MAX_CONNECTIONS = QUERY_CONCURRENCY + 1;
+
     private final PaymentRepository paymentRepository;
     private final SettlementRepository settlementRepository;
     private final UserRepository userRepository;
     private final CreditRepository creditRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
     private final DailyStatisticsRepository dailyStatisticsRepository;
     private final OrderRepository orderRepository;
+    private final AsyncTaskExecutor blockingIoExecutor;
+    private final String targetDate;
+    private final LocalDate baseDate;
+    private final Semaphore queryPermits = new Semaphore(QUERY_CONCURRENCY);
+
+    public DailyStatsTasklet(PaymentRepository paymentRepository,
+                             SettlementRepository settlementRepository,
+                             UserRepository userRepository,
+                             CreditRepository creditRepository,
+                             CreditHistoryRepository creditHistoryRepository,
+                             DailyStatisticsRepository dailyStatisticsRepository,
+                             OrderRepository orderRepository,
+                             @Qualifier("blockingIoExecutor") AsyncTaskExecutor blockingIoExecutor,
+                             @Value("#{jobParameters['targetDate']}") String targetDate,
+                             @Value("#{jobParameters['baseDate']}") String baseDate) {
+        this.paymentRepository = paymentRepository;
+        this.settlementRepository = settlementRepository;
+        this.userRepository = userRepository;
+        this.creditRepository = creditRepository;
+        this.creditHistoryRepository = creditHistoryRepository;
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.orderRepository = orderRepository;
+        this.blockingIoExecutor = blockingIoExecutor;
+        this.targetDate = targetDate;
+        this.baseDate = baseDate != null ? LocalDate.parse(baseDate) : null;
+    }
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        LocalDateTime start = yesterday.atStartOfDay();
-        LocalDateTime end = yesterday.atTime(23, 59, 59);
+        LocalDate date = targetDate != null ? LocalDate.parse(targetDate) : LocalDate.now(ZONE).minusDays(1);
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.atTime(23, 59, 59);
+        LocalDateTime nextStart = date.plusDays(1).atStartOfDay();
 
         // 당일 매출
-        Long dailyPaymentAmount = paymentRepository.sumTotalAmountByDate(start, end, PaymentType.DONE);
+        CompletableFuture<Long> dailyPaymentAmount =
+                async(() -> paymentRepository.sumTotalAmountByDate(start, end, PaymentType.DONE));
 
         // 당일 정산
-        Long dailySettlementAmount = settlementRepository.sumTotalAmountByDate(start, end);
+        CompletableFuture<Long> dailySettlementAmount =
+                async(() -> settlementRepository.sumTotalAmountByDate(start, end));
 
         // 당일 신규 가입자
-        Long newUsers = userRepository.countTotalAmountByDate(start, end);
-
-        // 총 별사탕 유통량
-        Long totalStarCandy = userRepository.sumTotalStarcandyAmount();
-
-        // 총 시금치 유통량
-        Long totalSpinachAmount = userRepository.sumTotalSpinachAmount();
+        CompletableFuture<Long> newUsers = async(() -> userRepository.countTotalAmountByDate(start, end));
 
         // 당일 시금치 유통량
-        Long spinachAmount = creditRepository.sumDailySpinachAmountByDate(start, end, CreditType.FREE);
+        CompletableFuture<Long> spinachAmount =
+                async(() -> creditRepository.sumDailySpinachAmountByDate(start, end, CreditType.FREE));
 
         // 당일 시금치 사용량 (만료 포함)
-        Long dailySpinachUsed = orderRepository.sumDailySpinachUsedByDate(start, end);
+        CompletableFuture<Long> dailySpinachUsed = async(() -> orderRepository.sumDailySpinachUsedByDate(start, end));
+
+        // 총 시금치/별사탕 유통량: 기준일 통계 행 + 기준일 다음 날부터 당일까지의 잔액 변동
+        LocalDate base = baseDate != null ? baseDate : date.minusDays(1);
+        LocalDateTime deltaStart = base.plusDays(1).atStartOfDay();
+        Optional<DailyStatistics> previous = dailyStatisticsRepository.findByDate(base)
+                .filter(p -> p.getTotalSpinachIssued() != null && p.getTotalStarcandy() != null);
+        long totalSpinachAmount;
+        long totalStarCandy;
+        if (previous.isPresent()) {
+            CompletableFuture<Long> spinachDelta = async(() ->
+                    creditHistoryRepository.sumDeltaByCreditTypeAndDate(CreditType.FREE, deltaStart, nextStart));
+            CompletableFuture<Long> starcandyDelta = async(() ->
+                    creditHistoryRepository.sumDeltaByCreditTypeAndDate(CreditType.PAID, deltaStart, nextStart));
+            totalSpinachAmount = previous.get().getTotalSpinachIssued() + await(spinachDelta);
+            totalStarCandy = previous.get().getTotalStarcandy() + await(starcandyDelta);
+        } else {
+            // 첫 실행 또는 기준일 행이 없음: 현재 잔액 합계에서 그날 이후 변동을 빼서 그날 마감 잔액을 역산
+            log.info("기준일 통계 없음, 잔액 합계로 기준값 계산: date={}, baseDate={}", date, base);
+            CompletableFuture<Long> spinachNow = async(userRepository::sumTotalSpinachAmount);
+            CompletableFuture<Long> starcandyNow = async(userRepository::sumTotalStarcandyAmount);
+            CompletableFuture<Long> spinachAfter = async(() ->
+                    creditHistoryRepository.sumDeltaByCreditTypeSince(CreditType.FREE, nextStart));
+            CompletableFuture<Long> starcandyAfter = async(() ->
+                    creditHistoryRepository.sumDeltaByCreditTypeSince(CreditType.PAID, nextStart));
+            totalSpinachAmount = await(spinachNow) - await(spinachAfter);
+            totalStarCandy = await(starcandyNow) - await(starcandyAfter);
+        }
+
+        long payment = await(dailyPaymentAmount);
+        long settlement = await(dailySettlementAmount);
 
         DailyStatistics statistics = DailyStatistics.builder()
-                .dailyPaymentAmount(dailyPaymentAmount)
-                .dailySettlementAmount(dailySettlementAmount)
-                .dailyNetRevenue(dailyPaymentAmount - dailySettlementAmount)
-                .dailyNewUserCount(newUsers)
-                .dailySpinachIssued(spinachAmount)
+                .date(date)
+                .dailyPaymentAmount(payment)
+                .dailySettlementAmount(settlement)
+                .dailyNetRevenue(payment - settlement)
+                .dailyNewUserCount(await(newUsers))
+                .dailySpinachIssued(await(spinachAmount))
                 .totalSpinachIssued(totalSpinachAmount)
-                .dailySpinachUsed(dailySpinachUsed)
+                .dailySpinachUsed(await(dailySpinachUsed))
                 .totalStarcandy(totalStarCandy)
                 .build();
 
-        dailyStatisticsRepository.save(statistics);
+        dailyStatisticsRepository.findByDate(date).ifPresentOrElse(
+                existing -> existing.overwrite(statistics),
+                () -> dailyStatisticsRepository.save(statistics)
+        );
         return RepeatStatus.FINISHED;
     }
+
+    // 동시 쿼리 수를 QUERY_CONCURRENCY로 제한하여 커넥션 점유를 MAX_CONNECTIONS 이내로 유지
+    private CompletableFuture<Long> async(Supplier<Long> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            queryPermits.acquireUninterruptibly();
+            try {
+                return query.get();
+            } finally {
+                queryPermits.release();
+            }
+        }, blockingIoExecutor);
+    }
+
+    private static long await(CompletableFuture<Long> future) throws Exception {
+        try {
+            Long value = future.get();
+            return value != null ? value : 0L;
+        } catch (ExecutionException e) {
+            // 원래 예외로 실패시켜 Step이 FAILED로 기록되고 같은 파라미터로 재시작 가능하게 함
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,11 +14,14 @@ import org.springframework.web.bind.annotation.*;
 import popeye.popeyebackend.content.domain.Content;
 import popeye.popeyebackend.content.dto.request.ContentCreateRequest;
 import popeye.popeyebackend.content.dto.response.BannedContentRes;
+import popeye.popeyebackend.content.dto.response.ContentFeedRes;
 import popeye.popeyebackend.content.dto.response.ContentListRes;
 import popeye.popeyebackend.content.dto.response.ContentResponse;
 import popeye.popeyebackend.content.service.ContentService;
 import popeye.popeyebackend.global.security.details.PrincipalDetails;
+import popeye.popeyebackend.user.enums.Role;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -41,8 +45,11 @@ public class ContentController {
     public ResponseEntity<ContentResponse> getContent(
             @AuthenticationPrincipal PrincipalDetails details,
             @PathVariable Long contentId) {
+        // 열람 권한은 JWT 클레임(userId/role/creatorId)으로 판단
         Long userId = details != null ? details.getUserId() : null;
-        ContentResponse content = contentService.getContent(contentId, userId);
+        Role role = details != null ? details.getRole() : null;
+        Long creatorId = details != null ? details.getCreatorId() : null;
+        ContentResponse content = contentService.getContent(contentId, userId, role, creatorId);
         return ResponseEntity.ok(content);
     } //제작자랑 어드민은 자기꺼보게
 
@@ -64,7 +71,7 @@ public class ContentController {
         return ResponseEntity.ok(list);
     }
 
-    @GetMapping()
+    @GetMapping(params = "page")
     public ResponseEntity<List<ContentListRes>> getAllContent(
             @AuthenticationPrincipal PrincipalDetails details,
             @RequestParam int page, 
@@ -73,7 +80,7 @@ public class ContentController {
         return ResponseEntity.ok(contentService.getContentList(page, size, userId));
     }
 
-    @GetMapping("/free")
+    @GetMapping(value = "/free", params = "page")
     public ResponseEntity<List<ContentListRes>> getFreeContent(
             @AuthenticationPrincipal PrincipalDetails details,
             @RequestParam int page, 
@@ -82,7 +89,7 @@ public class ContentController {
         return ResponseEntity.ok(contentService.getFreeContentList(true, page, size, userId));
     }
 
-    @GetMapping("/paid")
+    @GetMapping(value = "/paid", params = "page")
     public ResponseEntity<List<ContentListRes>> getPaidContent(
             @AuthenticationPrincipal PrincipalDetails details,
             @RequestParam int page, 
@@ -90,4 +97,44 @@ public class ContentController {
         Long userId = details != null ? details.getUserId() : null;
         return ResponseEntity.ok(contentService.getFreeContentList(false, page, size, userId));
     }
+
+    // 인기 콘텐츠 (시간 감쇠 점수 순, size는 1~100으로 제한)
+    @GetMapping("/trending")
+    public ResponseEntity<List<ContentListRes>> getTrendingContent(
+            @AuthenticationPrincipal PrincipalDetails details,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = details != null ? details.getUserId() : null;
+        return ResponseEntity.ok(contentService.getTrendingContentList(size, userId));
+    }
+
+    // 커서 기반 피드: page 파라미터 없이 호출 (첫 페이지는 커서 생략)
+    @GetMapping(params = "!page")
+    public ResponseEntity<ContentFeedRes> getContentFeed(
+            @AuthenticationPrincipal PrincipalDetails details,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = details != null ? details.getUserId() : null;
+        return ResponseEntity.ok(contentService.getContentFeed(cursorCreatedAt, cursorId, size, userId));
+    }
+
+    @GetMapping(value = "/free", params = "!page")
+    public ResponseEntity<ContentFeedRes> getFreeContentFeed(
+            @AuthenticationPrincipal PrincipalDetails details,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = details != null ? details.getUserId() : null;
+        return ResponseEntity.ok(contentService.getFreeContentFeed(true, cursorCreatedAt, cursorId, size, userId));
+    }
+
+    @GetMapping(value = "/paid", params = "!page")
+    public ResponseEntity<ContentFeedRes> getPaidContentFeed(
+            @AuthenticationPrincipal PrincipalDetails details,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = details != null ? details.getUserId() : null;
+        return ResponseEntity.ok(contentService.getFreeContentFeed(false, cursorCreatedAt, cursorId, size, userId));
+    }
 }
@@ -15,12 +15,18 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "contents")
+@Table(name = "contents", indexes = {
+        // 커서 기반 피드 조회용 (status, is_free, created_at, id)
+        @Index(name = "idx_contents_feed_free", columnList = "status, is_free, created_at, id"),
+        @Index(name = "idx_contents_feed", columnList = "status, created_at, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Content {
+    public static final int EXCERPT_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,6 +35,9 @@ public class Content {
     private String title;
     @Column(nullable = false)
     private String content;
+
+    // 미리보기용 본문 앞부분 (생성 시 계산, 미리보기 조회 시 본문을 읽지 않기 위함)
+    private String excerpt;
     @Column(nullable = false)
     private int price;
     @Column(nullable = false)
@@ -116,4 +125,11 @@ public class Content {
             this.likeCount--;
         }
     }
-}
\ No newline at end of file
+
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return "";
+        }
+        return content.substring(0, Math.min(EXCERPT_LENGTH, content.length()));
+    }
+}
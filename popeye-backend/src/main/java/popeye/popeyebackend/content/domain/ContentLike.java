@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "content_likes")
+@Table(name = "content_likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_content_likes_user_content", columnNames = {"user_id", "content_id"})
+})
 @Getter
 @NoArgsConstructor
 public class ContentLike {
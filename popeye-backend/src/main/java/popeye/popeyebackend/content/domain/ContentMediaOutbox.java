@@ -0,0 +1,57 @@
+package popeye.popeyebackend.content.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import popeye.popeyebackend.content.enums.OutboxStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미디어 추출 작업 아웃박스
+ * 콘텐츠 저장과 같은 트랜잭션에서 기록하고, 비동기 워커가 처리 후 DONE으로 변경
+ */
+@Entity
+@Table(name = "content_media_outbox", indexes = {
+        @Index(name = "idx_content_media_outbox_status", columnList = "status, created_at")
+})
+@Getter
+@NoArgsConstructor
+public class ContentMediaOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    private int attempts = 0;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Builder
+    public ContentMediaOutbox(Long contentId) {
+        this.contentId = contentId;
+    }
+
+    public void complete() {
+        this.status = OutboxStatus.DONE;
+    }
+
+    // 실패 시 재시도 대기, 최대 횟수 초과 시 FAILED
+    public void fail(int maxAttempts) {
+        this.attempts++;
+        this.claimedAt = null;
+        this.status = this.attempts >= maxAttempts ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+    }
+}
@@ -0,0 +1,27 @@
+package popeye.popeyebackend.content.dto;
+
+import popeye.popeyebackend.content.enums.ContentStatus;
+
+/**
+ * 콘텐츠 상세 조회 캐시에 저장되는 사용자 무관 데이터
+ * 좋아요/북마크/구매 여부 등 사용자별 상태는 포함하지 않음
+ * 본문(HTML)은 열람 권한이 있을 때만 별도로 조회하므로 미리보기(excerpt)만 보관
+ */
+public record ContentDetailSnapshot(
+        Long id,
+        String title,
+        String excerpt,
+        Integer price,
+        boolean free,
+        Integer discountRate,
+        ContentStatus contentStatus,
+        Long creatorId,
+        Integer viewCount,
+        Long likeCount
+) {
+    // 기존 데이터처럼 excerpt가 비어 있을 때 본문으로 채움
+    public ContentDetailSnapshot withExcerpt(String excerpt) {
+        return new ContentDetailSnapshot(id, title, excerpt, price, free, discountRate,
+                contentStatus, creatorId, viewCount, likeCount);
+    }
+}
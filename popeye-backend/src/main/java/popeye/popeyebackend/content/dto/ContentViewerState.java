@@ -0,0 +1,32 @@
+package popeye.popeyebackend.content.dto;
+
+import java.util.Set;
+
+/**
+ * 콘텐츠 목록 조회 시 로그인 사용자 기준의 좋아요/북마크/구매 상태
+ * 페이지 단위로 한 번에 조회한 콘텐츠 ID 집합을 보관
+ */
+public record ContentViewerState(
+        Set<Long> likedIds,
+        Set<Long> bookmarkedIds,
+        Set<Long> purchasedIds
+) {
+    private static final ContentViewerState EMPTY = new ContentViewerState(Set.of(), Set.of(), Set.of());
+
+    // 비로그인 사용자 또는 빈 목록
+    public static ContentViewerState empty() {
+        return EMPTY;
+    }
+
+    public boolean isLiked(Long contentId) {
+        return likedIds.contains(contentId);
+    }
+
+    public boolean isBookmarked(Long contentId) {
+        return bookmarkedIds.contains(contentId);
+    }
+
+    public boolean isPurchased(Long contentId) {
+        return purchasedIds.contains(contentId);
+    }
+}
@@ -0,0 +1,12 @@
+package popeye.popeyebackend.content.dto;
+
+import popeye.popeyebackend.content.enums.MediaType;
+
+/**
+ * 본문 HTML에서 추출한 미디어 URL
+ */
+public record ExtractedMedia(
+        String mediaUrl,
+        MediaType mediaType
+) {
+}
@@ -0,0 +1,16 @@
+package popeye.popeyebackend.content.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서 기반 콘텐츠 피드 응답
+ * 다음 페이지 요청 시 nextCursorCreatedAt, nextCursorId를 그대로 전달
+ */
+public record ContentFeedRes(
+        List<ContentListRes> contents,
+        boolean hasNext,
+        LocalDateTime nextCursorCreatedAt,
+        Long nextCursorId
+) {
+}
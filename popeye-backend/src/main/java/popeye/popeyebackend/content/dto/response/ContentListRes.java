@@ -1,6 +1,7 @@
 package popeye.popeyebackend.content.dto.response;
 
 import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.dto.ContentViewerState;
 
 public record ContentListRes(
         Long contentId,
@@ -15,6 +16,15 @@ public record ContentListRes(
         Boolean free,
         Integer discountRate
 ) {
+    public static ContentListRes from(Content content, ContentViewerState viewerState) {
+        return from(
+                content,
+                viewerState.isLiked(content.getId()),
+                viewerState.isBookmarked(content.getId()),
+                viewerState.isPurchased(content.getId())
+        );
+    }
+
     public static ContentListRes from(Content content, Boolean liked, Boolean bookmarked, Boolean purchased) {
         return new ContentListRes(
                 content.getId(),
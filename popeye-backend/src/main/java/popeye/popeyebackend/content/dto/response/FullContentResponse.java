@@ -2,6 +2,7 @@ package popeye.popeyebackend.content.dto.response;
 
 import lombok.Getter;
 import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.dto.ContentDetailSnapshot;
 import popeye.popeyebackend.content.enums.ContentStatus;
 
 @Getter
@@ -37,4 +38,23 @@ public class FullContentResponse extends ContentResponse{
 
         return r;
     }
+
+    public static FullContentResponse from(ContentDetailSnapshot c, String body, boolean isLiked, boolean isBookmarked) {
+        FullContentResponse r = new FullContentResponse();
+        r.id = c.id();
+        r.title = c.title();
+        r.content = body;
+        r.isFree = c.free();
+        r.viewCount = c.viewCount();
+        r.likeCount = c.likeCount();
+        r.discountRate = c.discountRate();
+        r.isLiked = isLiked;
+        r.isBookmarked = isBookmarked;
+        r.contentStatus = c.contentStatus();
+
+        // 무료 콘텐츠면 가격 숨김
+        r.price = c.free() ? null : c.price();
+
+        return r;
+    }
 }
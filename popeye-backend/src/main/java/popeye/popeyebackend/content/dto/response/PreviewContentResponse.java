@@ -2,6 +2,7 @@ package popeye.popeyebackend.content.dto.response;
 
 import lombok.Getter;
 import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.dto.ContentDetailSnapshot;
 import popeye.popeyebackend.content.enums.ContentStatus;
 
 @Getter
@@ -36,4 +37,21 @@ public class PreviewContentResponse extends ContentResponse { // 비로그인,
 
         return r;
     }
+
+    public static PreviewContentResponse from(ContentDetailSnapshot c, boolean isLiked, boolean isBookmarked) {
+        PreviewContentResponse r = new PreviewContentResponse();
+        r.id = c.id();
+        r.title = c.title();
+        r.isFree = c.free();
+        r.viewCount = c.viewCount();
+        r.price = c.price();
+        r.status = c.contentStatus();
+        r.likeCount = c.likeCount();
+        r.discountRate = c.discountRate();
+        r.isLiked = isLiked;
+        r.isBookmarked = isBookmarked;
+        r.preview = c.excerpt();
+
+        return r;
+    }
 }
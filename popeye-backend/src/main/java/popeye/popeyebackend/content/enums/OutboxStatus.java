@@ -0,0 +1,8 @@
+package popeye.popeyebackend.content.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package popeye.popeyebackend.content.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 인기 점수 반영 이벤트와 가중치
+@Getter
+@RequiredArgsConstructor
+public enum TrendingEvent {
+    VIEW(1),
+    BOOKMARK(3),
+    LIKE(5),
+    PURCHASE(10);
+
+    private final double weight;
+}
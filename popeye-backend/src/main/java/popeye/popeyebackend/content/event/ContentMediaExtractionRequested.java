@@ -0,0 +1,7 @@
+package popeye.popeyebackend.content.event;
+
+/**
+ * 콘텐츠 생성 후 미디어 추출 요청 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+public record ContentMediaExtractionRequested(Long outboxId) {
+}
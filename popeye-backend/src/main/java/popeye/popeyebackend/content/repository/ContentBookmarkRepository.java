@@ -1,10 +1,13 @@
 package popeye.popeyebackend.content.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import popeye.popeyebackend.content.domain.Content;
 import popeye.popeyebackend.content.domain.ContentBookmark;
 import popeye.popeyebackend.user.domain.User;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ContentBookmarkRepository
@@ -16,4 +19,10 @@ public interface ContentBookmarkRepository
 
      List<ContentBookmark> findAllByUserOrderByCreatedAtDesc(User user);
 
+     // 목록 화면용: 주어진 콘텐츠 중 사용자가 북마크한 콘텐츠 ID만 한 번에 조회
+     @Query("select cb.content.id from ContentBookmark cb " +
+             "where cb.user.id = :userId and cb.content.id in :contentIds")
+     List<Long> findBookmarkedContentIds(@Param("userId") Long userId,
+                                         @Param("contentIds") Collection<Long> contentIds);
+
 }
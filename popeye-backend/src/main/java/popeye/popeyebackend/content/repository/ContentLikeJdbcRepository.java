@@ -0,0 +1,83 @@
+package popeye.popeyebackend.content.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 추가/유니크 제약 관리용 JDBC 리포지토리
+ * 중복 추가를 JPA 예외(트랜잭션 rollback-only 표시) 없이 DuplicateKeyException으로만 판단
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentLikeJdbcRepository {
+
+    public static final String UNIQUE_KEY = "uk_content_likes_user_content";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO content_likes (user_id, content_id, created_at) VALUES (?, ?, NOW())";
+
+    private static final String UNIQUE_KEY_EXISTS_SQL = """
+        SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE()
+          AND table_name = 'content_likes'
+          AND index_name = ?
+        """;
+
+    // 같은 (user_id, content_id)에서 가장 먼저 생긴 행만 남김
+    private static final String DELETE_DUPLICATES_SQL = """
+        DELETE cl FROM content_likes cl
+        JOIN content_likes keep
+          ON keep.user_id = cl.user_id
+         AND keep.content_id = cl.content_id
+         AND keep.like_id < cl.like_id
+        """;
+
+    private static final String RECOUNT_LIKES_SQL = """
+        UPDATE contents c
+        SET c.like_count = (SELECT COUNT(*) FROM content_likes cl WHERE cl.content_id = c.id)
+        """;
+
+    private static final String ADD_UNIQUE_KEY_SQL =
+        "ALTER TABLE content_likes ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (user_id, content_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 추가
+     * 콘텐츠/사용자가 없으면(FK 위반) DataIntegrityViolationException이 그대로 전파됨
+     *
+     * @return 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean insert(Long userId, Long contentId) {
+        try {
+            return jdbcTemplate.update(INSERT_SQL, userId, contentId) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public boolean hasUniqueKey() {
+        Long count = jdbcTemplate.queryForObject(UNIQUE_KEY_EXISTS_SQL, Long.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 중복 좋아요 삭제 후 콘텐츠 좋아요 수 재계산
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteDuplicates() {
+        int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+        if (deleted > 0) {
+            jdbcTemplate.update(RECOUNT_LIKES_SQL);
+        }
+        return deleted;
+    }
+
+    public void addUniqueKey() {
+        jdbcTemplate.execute(ADD_UNIQUE_KEY_SQL);
+    }
+}
@@ -1,13 +1,33 @@
 package popeye.popeyebackend.content.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import popeye.popeyebackend.content.domain.Content;
 import popeye.popeyebackend.content.domain.ContentLike;
  import popeye.popeyebackend.user.domain.User;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ContentLikeRepository extends JpaRepository<ContentLike, Long> {
 
     boolean existsByUserAndContent(User user, Content content);
 
     void deleteByUserAndContent(User user, Content content);
+
+    /**
+     * 좋아요 취소
+     * @return 실제로 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("delete from ContentLike cl where cl.user.id = :userId and cl.content.id = :contentId")
+    int deleteByUserIdAndContentId(@Param("userId") Long userId, @Param("contentId") Long contentId);
+
+    // 목록 화면용: 주어진 콘텐츠 중 사용자가 좋아요한 콘텐츠 ID만 한 번에 조회
+    @Query("select cl.content.id from ContentLike cl " +
+            "where cl.user.id = :userId and cl.content.id in :contentIds")
+    List<Long> findLikedContentIds(@Param("userId") Long userId,
+                                   @Param("contentIds") Collection<Long> contentIds);
 }
@@ -0,0 +1,33 @@
+package popeye.popeyebackend.content.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import popeye.popeyebackend.content.dto.ExtractedMedia;
+
+import java.util.List;
+
+/**
+ * ContentMedia 일괄 저장용 JDBC 리포지토리
+ * IDENTITY 전략에서는 Hibernate batch insert가 동작하지 않으므로 JDBC batch 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentMediaJdbcRepository {
+
+    private static final String INSERT_MEDIA_SQL =
+            "INSERT INTO content_medias (content_id, media_url, media_type) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(Long contentId, List<ExtractedMedia> media) {
+        if (media.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEDIA_SQL, media, media.size(), (ps, m) -> {
+            ps.setLong(1, contentId);
+            ps.setString(2, m.mediaUrl());
+            ps.setString(3, m.mediaType().name());
+        });
+    }
+}
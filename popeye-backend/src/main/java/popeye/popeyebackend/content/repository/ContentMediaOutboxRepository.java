@@ -0,0 +1,42 @@
+package popeye.popeyebackend.content.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import popeye.popeyebackend.content.domain.ContentMediaOutbox;
+import popeye.popeyebackend.content.enums.OutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ContentMediaOutboxRepository extends JpaRepository<ContentMediaOutbox, Long> {
+
+    /**
+     * PENDING -> PROCESSING 선점 (동시에 여러 워커가 같은 작업을 처리하지 않도록)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update ContentMediaOutbox o " +
+            "set o.status = popeye.popeyebackend.content.enums.OutboxStatus.PROCESSING, o.claimedAt = :now " +
+            "where o.id = :id " +
+            "and o.status = popeye.popeyebackend.content.enums.OutboxStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중 서버가 종료되어 남은 PROCESSING 작업을 다시 PENDING으로 복구
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update ContentMediaOutbox o " +
+            "set o.status = popeye.popeyebackend.content.enums.OutboxStatus.PENDING, o.claimedAt = null " +
+            "where o.status = popeye.popeyebackend.content.enums.OutboxStatus.PROCESSING " +
+            "and o.claimedAt < :before")
+    int releaseStale(@Param("before") LocalDateTime before);
+
+    @Query("select o.id from ContentMediaOutbox o " +
+            "where o.status = :status and o.createdAt < :before " +
+            "order by o.id")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") OutboxStatus status,
+                                            @Param("before") LocalDateTime before,
+                                            Pageable pageable);
+}
@@ -1,11 +1,18 @@
 package popeye.popeyebackend.content.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.dto.ContentDetailSnapshot;
 import popeye.popeyebackend.content.enums.ContentStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ContentRepository extends JpaRepository<Content, Long> {
@@ -14,6 +21,40 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
 
     Page<Content> findAllByContentStatus(ContentStatus status, Pageable pageable);
 
+    /**
+     * 상세 조회용 메타데이터 + 미리보기만 조회 (본문 컬럼 제외)
+     */
+    @Query("""
+        SELECT new popeye.popeyebackend.content.dto.ContentDetailSnapshot(
+            c.id, c.title, c.excerpt, c.price, c.isFree, c.discountRate,
+            c.contentStatus, c.creator.id, c.viewCount, c.likeCount)
+        FROM Content c
+        WHERE c.id = :contentId
+          AND c.contentStatus = :status
+        """)
+    Optional<ContentDetailSnapshot> findDetailSnapshot(@Param("contentId") Long contentId,
+                                                       @Param("status") ContentStatus status);
+
+    /**
+     * 좋아요 수 증가 (엔티티 로딩 없이 DB에서 원자적으로 증가)
+     */
+    @Modifying
+    @Query("UPDATE Content c SET c.likeCount = c.likeCount + 1 WHERE c.id = :contentId")
+    int increaseLikeCount(@Param("contentId") Long contentId);
+
+    @Modifying
+    @Query("UPDATE Content c SET c.likeCount = c.likeCount - 1 WHERE c.id = :contentId AND c.likeCount > 0")
+    int decreaseLikeCount(@Param("contentId") Long contentId);
+
+    @Query("SELECT c.likeCount FROM Content c WHERE c.id = :contentId")
+    Optional<Long> findLikeCountById(@Param("contentId") Long contentId);
+
+    /**
+     * 본문만 조회 (열람 권한 확인 후 호출)
+     */
+    @Query("SELECT c.content FROM Content c WHERE c.id = :contentId")
+    Optional<String> findBodyById(@Param("contentId") Long contentId);
+
 	/**
 	 * Content를 creator와 함께 조회 (fetch join)
 	 */
@@ -30,4 +71,75 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
     Long countByContentStatus(ContentStatus status);
 
     Page<Content> findByContentStatusAndIsFree(ContentStatus contentStatus, boolean isFree, Pageable pageable);
+
+    /**
+     * ID 목록으로 조회 (인기 콘텐츠 등 순서가 외부에서 정해진 목록용)
+     */
+    @Query("""
+        SELECT c
+        FROM Content c
+        JOIN FETCH c.creator
+        WHERE c.id IN :contentIds
+          AND c.contentStatus = :status
+        """)
+    List<Content> findAllByIdInAndStatusWithCreator(@Param("contentIds") Collection<Long> contentIds,
+                                                    @Param("status") ContentStatus status);
+
+    /**
+     * 피드 첫 페이지 (최신순)
+     * Slice 반환이므로 count 쿼리 없이 size + 1건만 조회
+     */
+    @Query("""
+        SELECT c
+        FROM Content c
+        JOIN FETCH c.creator
+        WHERE c.contentStatus = :status
+        ORDER BY c.createdAt DESC, c.id DESC
+        """)
+    Slice<Content> findFeed(@Param("status") ContentStatus status, Pageable pageable);
+
+    /**
+     * 피드 다음 페이지 - (createdAt, id) 커서 이후 항목만 조회 (OFFSET 미사용)
+     */
+    @Query("""
+        SELECT c
+        FROM Content c
+        JOIN FETCH c.creator
+        WHERE c.contentStatus = :status
+          AND (c.createdAt < :cursorCreatedAt
+               OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+        ORDER BY c.createdAt DESC, c.id DESC
+        """)
+    Slice<Content> findFeedAfter(@Param("status") ContentStatus status,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
+    @Query("""
+        SELECT c
+        FROM Content c
+        JOIN FETCH c.creator
+        WHERE c.contentStatus = :status
+          AND c.isFree = :isFree
+        ORDER BY c.createdAt DESC, c.id DESC
+        """)
+    Slice<Content> findFeedByIsFree(@Param("status") ContentStatus status,
+                                    @Param("isFree") boolean isFree,
+                                    Pageable pageable);
+
+    @Query("""
+        SELECT c
+        FROM Content c
+        JOIN FETCH c.creator
+        WHERE c.contentStatus = :status
+          AND c.isFree = :isFree
+          AND (c.createdAt < :cursorCreatedAt
+               OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+        ORDER BY c.createdAt DESC, c.id DESC
+        """)
+    Slice<Content> findFeedByIsFreeAfter(@Param("status") ContentStatus status,
+                                         @Param("isFree") boolean isFree,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
 }
@@ -0,0 +1,32 @@
+package popeye.popeyebackend.content.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 일괄 반영용 JDBC 리포지토리
+ * 엔티티를 로딩하지 않고 view_count = view_count + ? 형태로 batch update
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentViewCountRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE contents SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 트랜잭션으로 반영하여 실패 시 전체 롤백 (버퍼 복구와 짝을 맞춤)
+    @Transactional
+    public void increaseViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, args);
+    }
+}
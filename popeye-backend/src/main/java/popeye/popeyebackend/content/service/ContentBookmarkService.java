@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import popeye.popeyebackend.content.domain.Content;
 import popeye.popeyebackend.content.domain.ContentBookmark;
+import popeye.popeyebackend.content.enums.TrendingEvent;
 import popeye.popeyebackend.content.exception.ContentError;
 import popeye.popeyebackend.content.repository.ContentBookmarkRepository;
 import popeye.popeyebackend.content.repository.ContentRepository;
@@ -19,6 +20,7 @@ public class ContentBookmarkService {
     private final ContentBookmarkRepository bookmarkRepository;
     private final ContentRepository contentRepository;
     private final UserRepository userRepository;
+    private final ContentTrendingService contentTrendingService;
 
     public boolean bookmark(Long userId, Long contentId) {
         User user = userRepository.findById(userId)
@@ -36,6 +38,7 @@ public class ContentBookmarkService {
                     .content(content)
                     .price(content.getPrice()).build();
             bookmarkRepository.save(contentBookmark);
+            contentTrendingService.record(contentId, TrendingEvent.BOOKMARK);
             return true;
         }
     }
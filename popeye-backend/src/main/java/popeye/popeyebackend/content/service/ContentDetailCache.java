@@ -0,0 +1,173 @@
+package popeye.popeyebackend.content.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import popeye.popeyebackend.content.dto.ContentDetailSnapshot;
+import popeye.popeyebackend.global.util.TransactionUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 콘텐츠 상세 2단 캐시 (Caffeine 로컬 -> Redis -> DB)
+ * 키: 콘텐츠 ID + 버전. 상태 변경(공개/비공개/삭제/차단) 시 Redis의 버전을 올려 모든 서버의 캐시를 무효화
+ * - 로컬 엔트리가 버전을 함께 보관하므로 요청마다 Redis에서 버전을 읽지 않음 (로컬 미스일 때만 조회)
+ * - 버전을 올린 서버가 pub/sub으로 새 버전을 알리면 각 서버가 로컬 엔트리를 새 버전으로 교체, 메시지 유실 시에는 로컬 TTL 이후 반영
+ * 조회수/좋아요 수는 캐시 TTL 동안 지연될 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentDetailCache implements MessageListener {
+
+    public static final String CHANNEL = "content:detail:eviction";
+    private static final String VERSION_PREFIX = "content:detail:version:";
+    private static final String DETAIL_PREFIX = "content:detail:";
+    private static final String BODY_PREFIX = "content:body:";
+    private static final Duration REDIS_TTL = Duration.ofSeconds(60);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // contentId -> (버전, 상세 데이터), 무효화 알림을 받은 직후에는 상세 데이터 없이 버전만 보관
+    private final Cache<Long, VersionedDetail> localCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofSeconds(10))
+            .build();
+
+    private record VersionedDetail(long version, ContentDetailSnapshot snapshot) {
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 DB에서 읽어 양쪽 캐시에 저장
+     * Redis 장애 시에는 캐시를 거치지 않고 loader 결과를 그대로 반환
+     */
+    public ContentDetailSnapshot get(Long contentId, Supplier<ContentDetailSnapshot> loader) {
+        VersionedDetail local = localCache.getIfPresent(contentId);
+        if (local != null && local.snapshot() != null) {
+            return local.snapshot();
+        }
+
+        long version;
+        try {
+            version = local != null ? local.version() : currentVersion(contentId);
+        } catch (Exception e) {
+            log.warn("콘텐츠 캐시 버전 조회 실패. DB에서 직접 조회합니다. contentId= {}", contentId, e);
+            return loader.get();
+        }
+
+        String key = contentId + ":" + version;
+        ContentDetailSnapshot snapshot = readRedis(key);
+        if (snapshot == null) {
+            snapshot = loader.get();
+            writeRedis(key, snapshot);
+        }
+        // 조회하는 동안 더 새로운 버전 알림을 받았으면 이전 버전 데이터로 덮어쓰지 않음
+        VersionedDetail loaded = new VersionedDetail(version, snapshot);
+        localCache.asMap().merge(contentId, loaded,
+                (existing, candidate) -> existing.version() > candidate.version() ? existing : candidate);
+        return snapshot;
+    }
+
+    /**
+     * 본문 조회 - 크기가 커서 로컬 캐시에는 두지 않고 Redis에만 저장
+     * 버전은 get()이 로컬 엔트리에 남긴 값을 사용
+     */
+    public String getBody(Long contentId, Supplier<String> loader) {
+        String key;
+        try {
+            VersionedDetail local = localCache.getIfPresent(contentId);
+            long version = local != null ? local.version() : currentVersion(contentId);
+            key = BODY_PREFIX + contentId + ":" + version;
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("콘텐츠 본문 캐시 조회 실패. DB에서 직접 조회합니다. contentId= {}", contentId, e);
+            return loader.get();
+        }
+
+        String body = loader.get();
+        try {
+            redisTemplate.opsForValue().set(key, body, REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("콘텐츠 본문 캐시 쓰기 실패. contentId= {}", contentId, e);
+        }
+        return body;
+    }
+
+    /**
+     * 캐시 무효화 - 트랜잭션 커밋 이후 버전을 올려 이전 데이터가 다시 캐싱되지 않도록 하고 새 버전을 모든 서버에 알림
+     */
+    public void evict(Long contentId) {
+        Runnable bumpVersion = () -> {
+            try {
+                Long version = redisTemplate.opsForValue().increment(VERSION_PREFIX + contentId);
+                if (version == null) {
+                    localCache.invalidate(contentId);
+                    return;
+                }
+                updateVersion(contentId, version);
+                redisTemplate.convertAndSend(CHANNEL, contentId + ":" + version);
+            } catch (Exception e) {
+                localCache.invalidate(contentId);
+                log.warn("콘텐츠 캐시 무효화 실패. contentId= {}", contentId, e);
+            }
+        };
+
+        TransactionUtil.runAfterCommit(bumpVersion);
+    }
+
+    // 다른 서버에서 올린 버전으로 로컬 엔트리 교체 (메시지: contentId:version)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            updateVersion(Long.valueOf(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 콘텐츠 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    // 새 버전만 남기고 상세 데이터는 버림 (이미 더 새로운 버전이면 유지)
+    private void updateVersion(Long contentId, long version) {
+        localCache.asMap().merge(contentId, new VersionedDetail(version, null),
+                (existing, candidate) -> existing.version() >= candidate.version() ? existing : candidate);
+    }
+
+    private long currentVersion(Long contentId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + contentId);
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+
+    private ContentDetailSnapshot readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(DETAIL_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, ContentDetailSnapshot.class) : null;
+        } catch (Exception e) {
+            log.warn("콘텐츠 캐시 읽기 실패. key= {}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, ContentDetailSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(DETAIL_PREFIX + key, objectMapper.writeValueAsString(snapshot), REDIS_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("콘텐츠 캐시 직렬화 실패. key= {}", key, e);
+        } catch (Exception e) {
+            log.warn("콘텐츠 캐시 쓰기 실패. key= {}", key, e);
+        }
+    }
+}
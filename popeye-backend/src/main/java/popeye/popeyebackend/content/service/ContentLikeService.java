@@ -1,16 +1,15 @@
 package popeye.popeyebackend.content.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import popeye.popeyebackend.content.domain.Content;
-import popeye.popeyebackend.content.domain.ContentLike;
 import popeye.popeyebackend.content.dto.response.ToggleLikeResponse;
+import popeye.popeyebackend.content.enums.TrendingEvent;
 import popeye.popeyebackend.content.exception.ContentError;
+import popeye.popeyebackend.content.repository.ContentLikeJdbcRepository;
 import popeye.popeyebackend.content.repository.ContentLikeRepository;
 import popeye.popeyebackend.content.repository.ContentRepository;
-import popeye.popeyebackend.user.domain.User;
-import popeye.popeyebackend.user.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -18,34 +17,41 @@ import popeye.popeyebackend.user.repository.UserRepository;
 public class ContentLikeService {
 
     private final ContentLikeRepository likeRepository;
+    private final ContentLikeJdbcRepository likeJdbcRepository;
     private final ContentRepository contentRepository;
-    private final UserRepository userRepository;
+    private final ContentTrendingService contentTrendingService;
 
+    /**
+     * 좋아요 토글
+     * 삭제 행 수/추가 시 유니크 키 중복 여부로 상태를 판단하고, 좋아요 수는 SQL에서 +-1 하여
+     * 동시 요청에도 카운트가 어긋나지 않도록 함
+     */
     public ToggleLikeResponse toggleLike(Long userId, Long contentId) {
-        User user = userRepository.findById(userId).orElseThrow();
-
-        Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new ContentError("컨텐츠를 찾을 수 없습니다."));
-
-        boolean alreadyLiked =
-                likeRepository.existsByUserAndContent(user, content);
+        if (!contentRepository.existsById(contentId)) {
+            throw new ContentError("컨텐츠를 찾을 수 없습니다.");
+        }
 
-        if (alreadyLiked) {
-            likeRepository.deleteByUserAndContent(user, content);
-            content.decreaseLike();
+        boolean liked;
+        if (likeRepository.deleteByUserIdAndContentId(userId, contentId) == 1) {
+            contentRepository.decreaseLikeCount(contentId);
+            liked = false;
         } else {
-            ContentLike contentLike = ContentLike.builder()
-                    .user(user)
-                    .content(content).build();
-
-            likeRepository.save(contentLike);
-            content.increaseLike();
+            boolean inserted;
+            try {
+                inserted = likeJdbcRepository.insert(userId, contentId);
+            } catch (DataIntegrityViolationException e) {
+                // 처리 중 콘텐츠가 삭제된 경우 (FK 위반, 중복 키는 insert에서 false로 처리)
+                throw new ContentError("컨텐츠를 찾을 수 없습니다.");
+            }
+            if (inserted) {
+                contentRepository.increaseLikeCount(contentId);
+                contentTrendingService.record(contentId, TrendingEvent.LIKE);
+            }
+            // inserted == false: 동시에 들어온 같은 사용자의 요청이 먼저 추가함
+            liked = true;
         }
-        
-        // DB에서 최신 상태 조회
-        boolean finalLiked = likeRepository.existsByUserAndContent(user, content);
-        long finalLikeCount = content.getLikeCount();
-        
-        return new ToggleLikeResponse(finalLiked, finalLikeCount);
+
+        long finalLikeCount = contentRepository.findLikeCountById(contentId).orElse(0L);
+        return new ToggleLikeResponse(liked, finalLikeCount);
     }
 }
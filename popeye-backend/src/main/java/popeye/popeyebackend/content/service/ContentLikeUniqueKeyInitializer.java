@@ -0,0 +1,38 @@
+package popeye.popeyebackend.content.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.content.repository.ContentLikeJdbcRepository;
+
+/**
+ * 좋아요 유니크 제약 적용
+ * 기존 데이터에 중복 좋아요가 있으면 ddl-auto가 제약을 만들지 못하므로,
+ * 제약이 없을 때 한 번 중복을 정리(좋아요 수 재계산 포함)하고 제약을 추가
+ * 실패하면 다음 기동 시 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentLikeUniqueKeyInitializer {
+
+    private final ContentLikeJdbcRepository contentLikeJdbcRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniqueKey() {
+        if (contentLikeJdbcRepository.hasUniqueKey()) {
+            return;
+        }
+        try {
+            int deleted = contentLikeJdbcRepository.deleteDuplicates();
+            log.info("중복 좋아요 정리 완료: deleted={}", deleted);
+            contentLikeJdbcRepository.addUniqueKey();
+            log.info("좋아요 유니크 제약 추가 완료: {}", ContentLikeJdbcRepository.UNIQUE_KEY);
+        } catch (Exception e) {
+            log.error("좋아요 유니크 제약 추가 실패", e);
+        }
+    }
+}
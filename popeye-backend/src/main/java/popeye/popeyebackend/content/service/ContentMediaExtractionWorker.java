@@ -0,0 +1,46 @@
+package popeye.popeyebackend.content.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import popeye.popeyebackend.content.event.ContentMediaExtractionRequested;
+
+/**
+ * 미디어 추출 비동기 워커
+ * 콘텐츠 생성 트랜잭션 커밋 후 mediaExtractionExecutor(고정 크기 풀)에서 처리
+ * 큐가 가득 차 버려진 작업은 PENDING으로 남아 스케줄러가 다시 제출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentMediaExtractionWorker {
+
+    private final ContentMediaOutboxProcessor outboxProcessor;
+
+    @Async("mediaExtractionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequested(ContentMediaExtractionRequested event) {
+        process(event.outboxId());
+    }
+
+    @Async("mediaExtractionExecutor")
+    public void submit(Long outboxId) {
+        process(outboxId);
+    }
+
+    private void process(Long outboxId) {
+        if (!outboxProcessor.claim(outboxId)) {
+            return; // 다른 워커가 이미 처리 중이거나 완료됨
+        }
+
+        try {
+            outboxProcessor.extract(outboxId);
+        } catch (Exception e) {
+            log.error("미디어 추출 실패. outboxId= {}", outboxId, e);
+            outboxProcessor.fail(outboxId);
+        }
+    }
+}
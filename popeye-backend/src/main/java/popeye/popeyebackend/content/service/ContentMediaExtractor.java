@@ -0,0 +1,229 @@
+package popeye.popeyebackend.content.service;
+
+import org.jsoup.parser.Parser;
+import org.springframework.stereotype.Component;
+import popeye.popeyebackend.content.dto.ExtractedMedia;
+import popeye.popeyebackend.content.enums.MediaType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 본문 HTML에서 이미지/동영상 URL 추출 (중복 제거, 등장 순서 유지)
+ *
+ * DOM 전체를 만들지 않고 태그만 한 번 훑는 스트리밍 방식
+ * - img: src -> IMAGE
+ * - video: src, src 속성이 없거나 빈 값이면 하위 첫 번째 source의 src -> VIDEO (공백뿐인 src는 무시)
+ * - 주석, script/style/textarea 등 원문 텍스트로 파싱되는 태그 내부는 무시 (Jsoup DOM 파싱 결과와 동일하게)
+ */
+@Component
+public class ContentMediaExtractor {
+
+    // Jsoup이 내용을 태그로 해석하지 않는 요소
+    private static final String[] RAW_TEXT_TAGS =
+            {"script", "style", "textarea", "title", "xmp", "iframe", "noembed", "noframes"};
+
+    public List<ExtractedMedia> extract(String htmlContent) {
+        if (htmlContent == null || htmlContent.isEmpty()) return new ArrayList<>();
+        return new Scanner(htmlContent).scan();
+    }
+
+    private static boolean isValidUrl(String url) {
+        return url != null && !url.isBlank();
+    }
+
+    /**
+     * 요청마다 생성되는 단방향 태그 스캐너
+     */
+    private static final class Scanner {
+
+        private final String html;
+        private final int length;
+        private int pos = 0;
+
+        private final Set<ExtractedMedia> urls = new LinkedHashSet<>();
+        // src 없는 video 태그가 열려 있어 첫 source를 기다리는 중
+        private boolean waitingVideoSource = false;
+
+        private Scanner(String html) {
+            this.html = html;
+            this.length = html.length();
+        }
+
+        private List<ExtractedMedia> scan() {
+            while (true) {
+                int lt = html.indexOf('<', pos);
+                if (lt < 0 || lt + 1 >= length) break;
+                pos = lt + 1;
+
+                if (html.startsWith("!--", pos)) {
+                    skipPast("-->");
+                    continue;
+                }
+
+                char c = html.charAt(pos);
+                if (c == '/') {
+                    pos++;
+                    String name = readTagName();
+                    if (name.equals("video")) {
+                        waitingVideoSource = false;
+                    }
+                    skipPast(">");
+                } else if (Character.isLetter(c)) {
+                    String name = readTagName();
+                    handleStartTag(name);
+                } else {
+                    // <!DOCTYPE>, <?xml ?> 등은 태그 끝까지 건너뜀
+                    skipPast(">");
+                }
+            }
+            return new ArrayList<>(urls);
+        }
+
+        private void handleStartTag(String name) {
+            switch (name) {
+                case "img" -> {
+                    String src = readSrcAttribute();
+                    if (isValidUrl(src)) {
+                        urls.add(new ExtractedMedia(src, MediaType.IMAGE));
+                    }
+                }
+                case "video" -> {
+                    String src = readSrcAttribute();
+                    // Jsoup 구현과 같이 src가 비어 있을 때만 source로 넘어감 (공백뿐인 src는 그대로 무시)
+                    waitingVideoSource = src == null || src.isEmpty();
+                    if (isValidUrl(src)) {
+                        urls.add(new ExtractedMedia(src, MediaType.VIDEO));
+                    }
+                }
+                case "source" -> {
+                    String src = readSrcAttribute();
+                    if (waitingVideoSource) {
+                        // 첫 번째 source만 사용
+                        waitingVideoSource = false;
+                        if (isValidUrl(src)) {
+                            urls.add(new ExtractedMedia(src, MediaType.VIDEO));
+                        }
+                    }
+                }
+                case "plaintext" -> {
+                    // 이후 전체가 텍스트
+                    pos = length;
+                }
+                default -> {
+                    readSrcAttribute();
+                    if (isRawTextTag(name)) {
+                        skipRawText(name);
+                    }
+                }
+            }
+        }
+
+        private String readTagName() {
+            int start = pos;
+            while (pos < length) {
+                char c = html.charAt(pos);
+                if (Character.isWhitespace(c) || c == '>' || c == '/') break;
+                pos++;
+            }
+            return html.substring(start, pos).toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * 태그의 속성을 '>'까지 읽으며 src 값만 반환 (엔티티 디코딩 포함)
+         */
+        private String readSrcAttribute() {
+            String src = null;
+            while (pos < length) {
+                char c = html.charAt(pos);
+                if (c == '>') {
+                    pos++;
+                    break;
+                }
+                if (Character.isWhitespace(c) || c == '/') {
+                    pos++;
+                    continue;
+                }
+
+                int nameStart = pos;
+                while (pos < length) {
+                    char n = html.charAt(pos);
+                    if (Character.isWhitespace(n) || n == '=' || n == '>' || n == '/') break;
+                    pos++;
+                }
+                String attrName = html.substring(nameStart, pos);
+
+                skipWhitespace();
+                if (pos < length && html.charAt(pos) == '=') {
+                    pos++;
+                    skipWhitespace();
+                    String value = readAttributeValue();
+                    // 같은 속성이 여러 번 나오면 Jsoup처럼 첫 번째 값을 사용
+                    if (src == null && attrName.equalsIgnoreCase("src")) {
+                        src = Parser.unescapeEntities(value, true);
+                    }
+                } else if (src == null && attrName.equalsIgnoreCase("src")) {
+                    src = "";
+                }
+            }
+            return src;
+        }
+
+        private String readAttributeValue() {
+            if (pos >= length) return "";
+
+            char quote = html.charAt(pos);
+            if (quote == '"' || quote == '\'') {
+                int end = html.indexOf(quote, pos + 1);
+                if (end < 0) end = length;
+                String value = html.substring(pos + 1, end);
+                pos = Math.min(end + 1, length);
+                return value;
+            }
+
+            int start = pos;
+            while (pos < length) {
+                char c = html.charAt(pos);
+                if (Character.isWhitespace(c) || c == '>') break;
+                pos++;
+            }
+            return html.substring(start, pos);
+        }
+
+        private boolean isRawTextTag(String name) {
+            for (String tag : RAW_TEXT_TAGS) {
+                if (tag.equals(name)) return true;
+            }
+            return false;
+        }
+
+        // script/style/textarea 내용은 닫는 태그까지 건너뜀
+        private void skipRawText(String name) {
+            String closing = "</" + name;
+            while (pos < length) {
+                int idx = html.indexOf("</", pos);
+                if (idx < 0) {
+                    pos = length;
+                    return;
+                }
+                if (html.regionMatches(true, idx, closing, 0, closing.length())) {
+                    pos = idx;
+                    return;
+                }
+                pos = idx + 2;
+            }
+        }
+
+        private void skipPast(String token) {
+            int idx = html.indexOf(token, pos);
+            pos = idx < 0 ? length : idx + token.length();
+        }
+
+        private void skipWhitespace() {
+            while (pos < length && Character.isWhitespace(html.charAt(pos))) pos++;
+        }
+    }
+}
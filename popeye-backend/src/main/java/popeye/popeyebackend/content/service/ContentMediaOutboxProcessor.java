@@ -0,0 +1,58 @@
+package popeye.popeyebackend.content.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import popeye.popeyebackend.content.domain.ContentMediaOutbox;
+import popeye.popeyebackend.content.dto.ExtractedMedia;
+import popeye.popeyebackend.content.repository.ContentMediaJdbcRepository;
+import popeye.popeyebackend.content.repository.ContentMediaOutboxRepository;
+import popeye.popeyebackend.content.repository.ContentRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미디어 추출 아웃박스 작업 단위 처리 (단계별 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentMediaOutboxProcessor {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ContentMediaOutboxRepository outboxRepository;
+    private final ContentRepository contentRepository;
+    private final ContentMediaJdbcRepository contentMediaJdbcRepository;
+    private final ContentMediaExtractor contentMediaExtractor;
+
+    @Transactional
+    public boolean claim(Long outboxId) {
+        return outboxRepository.claim(outboxId, LocalDateTime.now()) == 1;
+    }
+
+    // 추출 결과 저장과 완료 처리를 한 트랜잭션으로 묶어 재시도 시 중복 저장 방지
+    @Transactional
+    public void extract(Long outboxId) {
+        ContentMediaOutbox outbox = outboxRepository.findById(outboxId).orElseThrow();
+
+        // 처리 전에 하드 삭제된 콘텐츠는 추출할 미디어 없음
+        String body = contentRepository.findBodyById(outbox.getContentId()).orElse(null);
+        List<ExtractedMedia> media = contentMediaExtractor.extract(body);
+
+        contentMediaJdbcRepository.batchInsert(outbox.getContentId(), media);
+        outbox.complete();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(Long outboxId) {
+        outboxRepository.findById(outboxId)
+                .ifPresent(outbox -> outbox.fail(MAX_ATTEMPTS));
+    }
+
+    @Transactional
+    public int releaseStale(LocalDateTime before) {
+        return outboxRepository.releaseStale(before);
+    }
+}
@@ -1,12 +1,7 @@
 package popeye.popeyebackend.content.service;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,47 +11,54 @@ import org.springframework.transaction.annotation.Transactional;
 import popeye.popeyebackend.content.domain.Content;
 import popeye.popeyebackend.content.domain.ContentBan;
 import popeye.popeyebackend.content.domain.ContentMedia;
+import popeye.popeyebackend.content.domain.ContentMediaOutbox;
+import popeye.popeyebackend.content.dto.ContentDetailSnapshot;
+import popeye.popeyebackend.content.dto.ContentViewerState;
 import popeye.popeyebackend.content.dto.request.ContentCreateRequest;
 import popeye.popeyebackend.content.dto.response.*;
 import popeye.popeyebackend.content.enums.ContentStatus;
+import popeye.popeyebackend.content.enums.TrendingEvent;
+import popeye.popeyebackend.content.event.ContentMediaExtractionRequested;
 import popeye.popeyebackend.content.global.s3.S3Uploader;
 import popeye.popeyebackend.content.repository.ContentBanRepository;
-import popeye.popeyebackend.content.enums.MediaType;
-import popeye.popeyebackend.content.repository.ContentMediaRepository;
+import popeye.popeyebackend.content.repository.ContentMediaOutboxRepository;
 import popeye.popeyebackend.content.exception.AccessDeniedException;
 import popeye.popeyebackend.content.exception.ContentNotFoundException;
 import popeye.popeyebackend.content.exception.UserNotFoundException;
 import popeye.popeyebackend.content.repository.ContentRepository;
-import popeye.popeyebackend.content.repository.ContentLikeRepository;
-import popeye.popeyebackend.content.repository.ContentBookmarkRepository;
-import popeye.popeyebackend.pay.domain.Order;
-import popeye.popeyebackend.pay.enums.OrderStatus;
-import popeye.popeyebackend.pay.repository.OrderRepository;
 import popeye.popeyebackend.user.domain.Creator;
 import popeye.popeyebackend.user.domain.User;
+import popeye.popeyebackend.user.enums.Role;
 import popeye.popeyebackend.user.repository.CreatorRepository;
 import popeye.popeyebackend.user.service.UserService;
 import popeye.popeyebackend.user.repository.UserRepository;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ContentService {
 
+    // 목록/피드 한 페이지 최대 개수 (size <= 0이면 PageRequest가 예외를 던지므로 하한도 둠)
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ContentRepository contentRepository;
     private final ContentBanRepository contentBanRepository;
     private final UserService userService;
     private final UserRepository userRepository;
     private final CreatorRepository creatorRepository;
-    private final OrderRepository orderRepository;
-    private final ContentMediaRepository contentMediaRepository;
+    private final ContentMediaOutboxRepository contentMediaOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final S3Uploader s3Uploader;
-    private final ContentLikeRepository contentLikeRepository;
-    private final ContentBookmarkRepository contentBookmarkRepository;
+    private final ContentViewerStateResolver contentViewerStateResolver;
+    private final ContentViewCountBuffer contentViewCountBuffer;
+    private final ContentDetailCache contentDetailCache;
+    private final ContentTrendingService contentTrendingService;
 
     // 생성
     public Long createContent(Long userId, ContentCreateRequest req) {
@@ -70,6 +72,7 @@ public class ContentService {
         Content content = Content.builder()
                 .title(req.getTitle())
                 .content(req.getContent())
+                .excerpt(Content.excerptOf(req.getContent()))
                 .price(req.getPrice())
                 .discountRate(req.getDiscountRate())
                 .isFree(req.isFree())
@@ -78,20 +81,10 @@ public class ContentService {
 
         Content saved = contentRepository.save(content);
 
-        // 여기부터 S3 Repo에 추가
-        List<ExtractedMediaInfo> extractedUrls = extractImageUrls(saved.getContent());
-        List<ContentMedia> contentMedia = new ArrayList<>();
-
-        for (ExtractedMediaInfo url : extractedUrls) {
-            ContentMedia media = ContentMedia.builder()
-                    .content(saved)
-                    .mediaUrl(url.getMediaUrl())
-                    .mediaType(url.getMediaType())
-                    .build();
-
-            contentMedia.add(media);
-        }
-        contentMediaRepository.saveAll(contentMedia);
+        // 미디어 추출은 아웃박스에 기록 후 커밋 이후 비동기로 처리
+        ContentMediaOutbox outbox = contentMediaOutboxRepository.save(
+                ContentMediaOutbox.builder().contentId(saved.getId()).build());
+        eventPublisher.publishEvent(new ContentMediaExtractionRequested(outbox.getId()));
 
         return saved.getId();
     }
@@ -108,6 +101,7 @@ public class ContentService {
             content.activate();
             ContentBan ban = contentBanRepository.findByContentAndIsBanned(content, true);
             ban.release();
+            contentDetailCache.evict(contentId);
         }
     }
 
@@ -127,6 +121,7 @@ public class ContentService {
                     .admin(admin)
                     .content(content).build();
             contentBanRepository.save(contentBan);
+            contentDetailCache.evict(contentId);
         }
     }
 
@@ -143,38 +138,47 @@ public class ContentService {
         content.activate();
         ContentBan ban = ContentBan.builder()
                 .reason(reason).build();
+        contentDetailCache.evict(contentId);
     }
 
-    @Transactional
-    public ContentResponse getContent(Long contentId, Long userId) {
-
-        Content content = contentRepository
-                .findByIdAndContentStatus(contentId, ContentStatus.ACTIVE)
-                .orElseThrow(ContentNotFoundException::new);
-
-        User viewer = null;
-        if (userId != null) {
-            viewer = userRepository.findById(userId)
-                    .orElse(null);
+    @Transactional(readOnly = true)
+    public ContentResponse getContent(Long contentId, Long userId, Role role, Long creatorId) {
+
+        // 사용자 무관 데이터는 캐시에서 조회 (캐시 미스 시에만 DB 조회)
+        ContentDetailSnapshot content = contentDetailCache.get(contentId, () -> loadDetailSnapshot(contentId));
+
+        // 조회수 증가 (로그인 여부와 관계없이) - 버퍼에 누적 후 스케줄러가 일괄 반영
+        contentViewCountBuffer.increase(content.id());
+        contentTrendingService.record(content.id(), TrendingEvent.VIEW);
+
+        // 사용자별 좋아요/북마크/구매 상태는 캐시와 분리하여 조회
+        ContentViewerState viewerState = userId != null
+                ? contentViewerStateResolver.resolve(userId, List.of(content.id()))
+                : ContentViewerState.empty();
+        boolean isLiked = viewerState.isLiked(content.id());
+        boolean isBookmarked = viewerState.isBookmarked(content.id());
+
+        if (userId != null && canViewFullContent(content, role, creatorId, viewerState)) {
+            // 본문은 열람 권한이 확인된 경우에만 조회
+            String body = contentDetailCache.getBody(contentId, () -> contentRepository.findBodyById(contentId)
+                    .orElseThrow(ContentNotFoundException::new));
+            return FullContentResponse.from(content, body, isLiked, isBookmarked);
         }
 
-        // 조회수 증가 (로그인 여부와 관계없이)
-        content.increaseViewCount();
-        contentRepository.save(content);
+        return PreviewContentResponse.from(content, isLiked, isBookmarked);
+    }
 
-        // 사용자별 좋아요/북마크 상태 확인
-        boolean isLiked = false;
-        boolean isBookmarked = false;
-        if (viewer != null) {
-            isLiked = contentLikeRepository.existsByUserAndContent(viewer, content);
-            isBookmarked = contentBookmarkRepository.existsByUserAndContent(viewer, content);
-        }
+    // 본문 컬럼을 제외한 상세 데이터 조회 (excerpt가 없는 기존 데이터만 본문을 읽어 채움)
+    private ContentDetailSnapshot loadDetailSnapshot(Long contentId) {
+        ContentDetailSnapshot snapshot = contentRepository
+                .findDetailSnapshot(contentId, ContentStatus.ACTIVE)
+                .orElseThrow(ContentNotFoundException::new);
 
-        if (viewer != null && canViewFullContent(content, viewer)) {
-            return FullContentResponse.from(content, isLiked, isBookmarked);
+        if (snapshot.excerpt() == null) {
+            String body = contentRepository.findBodyById(contentId).orElse(null);
+            return snapshot.withExcerpt(Content.excerptOf(body));
         }
-
-        return PreviewContentResponse.from(content, isLiked, isBookmarked);
+        return snapshot;
     }
 
     // 콘텐츠 삭제
@@ -188,6 +192,7 @@ public class ContentService {
         }
 
         content.softDelete();
+        contentDetailCache.evict(contentId);
     }
 
     public void hardDeleteContent(Long adminUserId, Long contentId) {
@@ -209,141 +214,115 @@ public class ContentService {
         }
 
         contentRepository.delete(content);
+        contentDetailCache.evict(contentId);
     }
 
 
-    private boolean canViewFullContent(Content content, User viewer) {
+    // 열람자 권한/크리에이터 ID는 JWT 클레임 값 (요청마다 User를 조회하지 않음)
+    private boolean canViewFullContent(ContentDetailSnapshot content, Role role, Long creatorId,
+                                       ContentViewerState viewerState) {
 
-        boolean isCreator = content.getCreator().getId().equals(viewer.getId());
-        boolean isAdmin = viewer.getRole().name().equals("ADMIN");
+        boolean isCreator = content.creatorId().equals(creatorId);
+        boolean isAdmin = role == Role.ADMIN;
 
         if (isCreator || isAdmin) {
             return true;
         }
 
-        if (content.isFree()) {
+        if (content.free()) {
             return true;
         }
 
-        if (hasPurchased(viewer.getId(), content.getId())){
+        if (viewerState.isPurchased(content.id())){
             return true;
         }
         return false;
     }
 
-    // 구매여부
-    private boolean hasPurchased(Long userId, Long contentId) {
-        Optional<Order> orderOpt = orderRepository.findByUserIdAndContentId(userId, contentId);
-        if (orderOpt.isEmpty()) {
-            return false;
-        }
-        Order order = orderOpt.get();
-        return order.getOrderStatus().equals(OrderStatus.COMPLETED);
+    public List<ContentListRes> getFreeContentList(boolean isfree, int page, int size, Long userId) {
+        Pageable pageable = PageRequest.of(page, pageSize(size));
+        Page<Content> list = contentRepository.findByContentStatusAndIsFree(ContentStatus.ACTIVE, isfree, pageable);
+        return toContentListRes(list.getContent(), userId);
     }
 
-    // content에서 media url 추출
-    private List<ExtractedMediaInfo> extractImageUrls(String htmlContent) {
-        List<ExtractedMediaInfo> urls = new ArrayList<>();
-        if (htmlContent == null || htmlContent.isEmpty()) return urls;
-
-        // Jsoup으로 HTML 파싱
-        Document doc = Jsoup.parse(htmlContent);
-
-        // img 태그만 모두 찾기
-        Elements imgTags = doc.select("img");
-        for (Element img : imgTags) {
-            // src 속성값(URL) 꺼내기
-            String src = img.attr("src");
-            if (isValidUrl(src)) {
-                urls.add(new ExtractedMediaInfo(src, MediaType.IMAGE));
-            }
-        }
+    @Transactional(readOnly = true)
+    public List<BannedContentRes> getBannedContentList(int page, int size) {
+        Pageable pageable = PageRequest.of(page, pageSize(size));
+        Page<ContentBan> banned = contentBanRepository.findAllByIsBanned(true, pageable);
+        return banned.stream().map(BannedContentRes::from).toList();
+    }
 
-        Elements videoTags = doc.select("video");
-        for (Element video : videoTags) {
-            String src = video.attr("src");
-
-            // video 태그 자체에 src가 없으면 자식인 source 태그를 확인
-            if (src == null || src.isEmpty()) {
-                Element source = video.select("source").first();
-                if (source != null) {
-                    src = source.attr("src");
-                }
-            }
-
-            if (isValidUrl(src)) {
-                urls.add(new ExtractedMediaInfo(src, MediaType.VIDEO));
-            }
-        }
-        return urls;
+    @Transactional(readOnly = true)
+    public List<ContentListRes> getContentList(int page, int size, Long userId) {
+        Pageable pageable = PageRequest.of(page, pageSize(size));
+        Page<Content> all = contentRepository.findAllByContentStatus(ContentStatus.ACTIVE, pageable);
+        return toContentListRes(all.getContent(), userId);
     }
 
-    public List<ContentListRes> getFreeContentList(boolean isfree, int page, int size, Long userId) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Content> list = contentRepository.findByContentStatusAndIsFree(ContentStatus.ACTIVE, isfree, pageable);
-        
-        User viewer = null;
-        if (userId != null) {
-            viewer = userRepository.findById(userId).orElse(null);
-        }
-        
-        final User finalViewer = viewer;
-        return list.stream().map(content -> {
-            boolean liked = false;
-            boolean bookmarked = false;
-            boolean purchased = false;
-            
-            if (finalViewer != null) {
-                liked = contentLikeRepository.existsByUserAndContent(finalViewer, content);
-                bookmarked = contentBookmarkRepository.existsByUserAndContent(finalViewer, content);
-                purchased = hasPurchased(finalViewer.getId(), content.getId());
-            }
-            
-            return ContentListRes.from(content, liked, bookmarked, purchased);
-        }).toList();
+    // 커서 기반 전체 피드 (최신순)
+    @Transactional(readOnly = true)
+    public ContentFeedRes getContentFeed(LocalDateTime cursorCreatedAt, Long cursorId, int size, Long userId) {
+        Pageable pageable = PageRequest.of(0, pageSize(size));
+        Slice<Content> slice = hasCursor(cursorCreatedAt, cursorId)
+                ? contentRepository.findFeedAfter(ContentStatus.ACTIVE, cursorCreatedAt, cursorId, pageable)
+                : contentRepository.findFeed(ContentStatus.ACTIVE, pageable);
+        return toContentFeedRes(slice, userId);
     }
 
-    @Getter
-    @AllArgsConstructor
-    private static class ExtractedMediaInfo {
-        private String mediaUrl;
-        private MediaType mediaType;
+    // 커서 기반 무료/유료 피드 (최신순)
+    @Transactional(readOnly = true)
+    public ContentFeedRes getFreeContentFeed(boolean isFree, LocalDateTime cursorCreatedAt, Long cursorId, int size, Long userId) {
+        Pageable pageable = PageRequest.of(0, pageSize(size));
+        Slice<Content> slice = hasCursor(cursorCreatedAt, cursorId)
+                ? contentRepository.findFeedByIsFreeAfter(ContentStatus.ACTIVE, isFree, cursorCreatedAt, cursorId, pageable)
+                : contentRepository.findFeedByIsFree(ContentStatus.ACTIVE, isFree, pageable);
+        return toContentFeedRes(slice, userId);
     }
 
-    private boolean isValidUrl(String url) {
-        return url != null && !url.isBlank();
+    private boolean hasCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        return cursorCreatedAt != null && cursorId != null;
     }
 
-    @Transactional(readOnly = true)
-    public List<BannedContentRes> getBannedContentList(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<ContentBan> banned = contentBanRepository.findAllByIsBanned(true, pageable);
-        return banned.stream().map(BannedContentRes::from).toList();
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private ContentFeedRes toContentFeedRes(Slice<Content> slice, Long userId) {
+        List<Content> contents = slice.getContent();
+        List<ContentListRes> items = toContentListRes(contents, userId);
+
+        if (!slice.hasNext() || contents.isEmpty()) {
+            return new ContentFeedRes(items, false, null, null);
+        }
+        Content last = contents.get(contents.size() - 1);
+        return new ContentFeedRes(items, true, last.getCreatedAt(), last.getId());
     }
 
+    // 인기 콘텐츠 (Redis 랭킹 순서 유지, 비공개/삭제된 콘텐츠 제외)
     @Transactional(readOnly = true)
-    public List<ContentListRes> getContentList(int page, int size, Long userId) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Content> all = contentRepository.findAllByContentStatus(ContentStatus.ACTIVE, pageable);
-        
-        User viewer = null;
-        if (userId != null) {
-            viewer = userRepository.findById(userId).orElse(null);
+    public List<ContentListRes> getTrendingContentList(int size, Long userId) {
+        List<Long> trendingIds = contentTrendingService.getTrendingContentIds(size);
+        if (trendingIds.isEmpty()) {
+            return List.of();
         }
-        
-        final User finalViewer = viewer;
-        return all.stream().map(content -> {
-            boolean liked = false;
-            boolean bookmarked = false;
-            boolean purchased = false;
-            
-            if (finalViewer != null) {
-                liked = contentLikeRepository.existsByUserAndContent(finalViewer, content);
-                bookmarked = contentBookmarkRepository.existsByUserAndContent(finalViewer, content);
-                purchased = hasPurchased(finalViewer.getId(), content.getId());
-            }
-            
-            return ContentListRes.from(content, liked, bookmarked, purchased);
-        }).toList();
+
+        Map<Long, Content> contentMap = contentRepository
+                .findAllByIdInAndStatusWithCreator(trendingIds, ContentStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(Content::getId, content -> content));
+        List<Content> ordered = trendingIds.stream()
+                .map(contentMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return toContentListRes(ordered, userId);
+    }
+
+    // 페이지 단위로 좋아요/북마크/구매 상태를 한 번에 조회하여 응답 생성
+    private List<ContentListRes> toContentListRes(List<Content> contents, Long userId) {
+        List<Long> contentIds = contents.stream().map(Content::getId).toList();
+        ContentViewerState viewerState = contentViewerStateResolver.resolve(userId, contentIds);
+
+        return contents.stream()
+                .map(content -> ContentListRes.from(content, viewerState))
+                .toList();
     }
 }
@@ -0,0 +1,96 @@
+package popeye.popeyebackend.content.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import popeye.popeyebackend.content.enums.TrendingEvent;
+import popeye.popeyebackend.global.util.TransactionUtil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기(트렌딩) 콘텐츠 랭킹 - Redis Sorted Set
+ *
+ * - 이벤트 발생 시 시간 단위 버킷 ZSET(trending:bucket:yyyyMMddHH)에 가중치만큼 ZINCRBY
+ * - 스케줄러가 최근 WINDOW_HOURS개 버킷을 시간 감쇠 가중치로 ZUNIONSTORE 하여 trending:contents 갱신
+ *   (HALF_LIFE_HOURS마다 점수가 절반이 되는 지수 감쇠)
+ * - 조회는 ZREVRANGE로 O(log n + k)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentTrendingService {
+
+    private static final String RANKING_KEY = "trending:contents";
+    private static final String BUCKET_PREFIX = "trending:bucket:";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final int WINDOW_HOURS = 24;
+    private static final double HALF_LIFE_HOURS = 6.0;
+    private static final Duration BUCKET_TTL = Duration.ofHours(WINDOW_HOURS + 2);
+    // 한 번에 조회할 수 있는 최대 개수 (size <= 0이면 ZREVRANGE 0 -1로 전체가 조회되므로 하한도 둠)
+    private static final int MAX_SIZE = 100;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 점수 반영 - 트랜잭션 커밋 이후에 기록 (롤백된 좋아요/구매는 반영하지 않음)
+     * 랭킹은 부가 기능이므로 Redis 오류는 로그만 남김
+     */
+    public void record(Long contentId, TrendingEvent event) {
+        TransactionUtil.runAfterCommit(() -> {
+            String bucketKey = bucketKey(LocalDateTime.now(ZONE));
+            try {
+                redisTemplate.opsForZSet().incrementScore(bucketKey, String.valueOf(contentId), event.getWeight());
+                redisTemplate.expire(bucketKey, BUCKET_TTL);
+            } catch (Exception e) {
+                log.warn("인기 점수 반영 실패. contentId= {}, event= {}", contentId, event, e);
+            }
+        });
+    }
+
+    /**
+     * 최근 버킷을 감쇠 가중치로 합산하여 랭킹 갱신
+     */
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+
+        String currentBucket = bucketKey(now);
+        List<String> pastBuckets = new ArrayList<>();
+        double[] weights = new double[WINDOW_HOURS];
+        weights[0] = 1.0;
+        for (int age = 1; age < WINDOW_HOURS; age++) {
+            pastBuckets.add(bucketKey(now.minusHours(age)));
+            weights[age] = Math.pow(0.5, age / HALF_LIFE_HOURS);
+        }
+
+        redisTemplate.opsForZSet().unionAndStore(
+                currentBucket, pastBuckets, RANKING_KEY, Aggregate.SUM, Weights.of(weights));
+    }
+
+    /**
+     * 인기 콘텐츠 ID (점수 높은 순), size는 1~100으로 제한
+     */
+    public List<Long> getTrendingContentIds(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Set<String> ids = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, limit - 1);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    private String bucketKey(LocalDateTime time) {
+        return BUCKET_PREFIX + time.format(BUCKET_FORMAT);
+    }
+}
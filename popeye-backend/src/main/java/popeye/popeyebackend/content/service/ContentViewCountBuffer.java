@@ -0,0 +1,58 @@
+package popeye.popeyebackend.content.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 콘텐츠 조회수 누적 버퍼 (write-behind)
+ * 조회 시에는 메모리 카운터(LongAdder, 인기 콘텐츠에 증가가 몰려도 경합 분산)만 증가시키고, 스케줄러가 주기적으로 DB에 일괄 반영
+ * 꺼낼 때는 키마다 remove로 adder를 맵에서 떼어내므로, 이후의 증가는 새 adder에 쌓여 다음 주기에 반영됨
+ * 떼어내기 직전에 adder를 얻은 증가가 합산 뒤에 도착할 수 있으므로, 떼어낸 adder는 한 주기 더 보관했다가 남은 값을 함께 꺼냄
+ * (adder 조회와 증가 사이에서 반영 주기 전체만큼 멈춘 스레드의 증가분만 유실될 수 있음)
+ */
+@Component
+public class ContentViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    // 지난 drain에서 떼어낸 adder (drain을 호출하는 스레드만 접근)
+    private Map<Long, LongAdder> retired = new HashMap<>();
+
+    public void increase(Long contentId) {
+        counts.computeIfAbsent(contentId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 조회수를 꺼내고 버퍼에서 제거
+     */
+    public synchronized Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // 지난 주기에 떼어낸 adder에 늦게 도착한 증가분
+        retired.forEach((contentId, adder) -> addDelta(deltas, contentId, adder.sumThenReset()));
+
+        Map<Long, LongAdder> removed = new HashMap<>();
+        for (Long contentId : counts.keySet()) {
+            LongAdder adder = counts.remove(contentId);
+            if (adder != null) {
+                addDelta(deltas, contentId, adder.sumThenReset());
+                removed.put(contentId, adder);
+            }
+        }
+        retired = removed;
+        return deltas;
+    }
+
+    // DB 반영 실패 시 꺼냈던 증가분을 되돌림
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((contentId, delta) -> counts.computeIfAbsent(contentId, id -> new LongAdder()).add(delta));
+    }
+
+    private static void addDelta(Map<Long, Long> deltas, Long contentId, long delta) {
+        if (delta != 0) {
+            deltas.merge(contentId, delta, Long::sum);
+        }
+    }
+}
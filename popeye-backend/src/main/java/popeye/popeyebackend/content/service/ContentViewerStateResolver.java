@@ -0,0 +1,38 @@
+package popeye.popeyebackend.content.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import popeye.popeyebackend.content.dto.ContentViewerState;
+import popeye.popeyebackend.content.repository.ContentBookmarkRepository;
+import popeye.popeyebackend.content.repository.ContentLikeRepository;
+import popeye.popeyebackend.pay.service.PurchaseEntitlementService;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * 콘텐츠 목록의 사용자별 상태(좋아요/북마크/구매) 일괄 조회
+ * 행마다 exists 쿼리를 날리지 않고 페이지의 콘텐츠 ID로 좋아요/북마크 IN 쿼리 2번 + 구매 권한 캐시 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContentViewerStateResolver {
+
+    private final ContentLikeRepository contentLikeRepository;
+    private final ContentBookmarkRepository contentBookmarkRepository;
+    private final PurchaseEntitlementService purchaseEntitlementService;
+
+    public ContentViewerState resolve(Long userId, Collection<Long> contentIds) {
+        if (userId == null || contentIds.isEmpty()) {
+            return ContentViewerState.empty();
+        }
+
+        return new ContentViewerState(
+                new HashSet<>(contentLikeRepository.findLikedContentIds(userId, contentIds)),
+                new HashSet<>(contentBookmarkRepository.findBookmarkedContentIds(userId, contentIds)),
+                purchaseEntitlementService.filterPurchased(userId, contentIds)
+        );
+    }
+}
@@ -34,4 +34,16 @@ public class DailyStatistics {
     private Long dailySpinachUsed;
 
     private Long totalStarcandy;
+
+    // 같은 날짜를 다시 집계한 경우(재실행/백필) 기존 행을 새 집계값으로 덮어씀
+    public void overwrite(DailyStatistics recalculated) {
+        this.dailyPaymentAmount = recalculated.dailyPaymentAmount;
+        this.dailySettlementAmount = recalculated.dailySettlementAmount;
+        this.dailyNetRevenue = recalculated.dailyNetRevenue;
+        this.dailyNewUserCount = recalculated.dailyNewUserCount;
+        this.dailySpinachIssued = recalculated.dailySpinachIssued;
+        this.totalSpinachIssued = recalculated.totalSpinachIssued;
+        this.dailySpinachUsed = recalculated.dailySpinachUsed;
+        this.totalStarcandy = recalculated.totalStarcandy;
+    }
 }
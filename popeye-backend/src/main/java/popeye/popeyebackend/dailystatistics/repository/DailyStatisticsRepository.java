@@ -5,7 +5,10 @@ import popeye.popeyebackend.dailystatistics.domain.DailyStatistics;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics, Long> {
     List<DailyStatistics> findByDateBetween(LocalDate startDate, LocalDate endDate);
+
+    Optional<DailyStatistics> findByDate(LocalDate date);
 }
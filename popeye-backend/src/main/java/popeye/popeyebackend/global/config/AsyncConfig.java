@@ -0,0 +1,41 @@
+package popeye.popeyebackend.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 비동기 작업용 Executor 설정
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    // 미디어 추출 워커 - 스레드/큐 크기를 제한하고, 넘치는 작업은 버림 (아웃박스 스케줄러가 재제출)
+    // HTML 파싱은 CPU 작업이므로 가상 스레드가 아닌 고정 크기 플랫폼 스레드 풀 유지
+    @Bean(name = "mediaExtractionExecutor")
+    public ThreadPoolTaskExecutor mediaExtractionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("media-extract-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 메일 발송 등 외부 I/O 대기가 대부분인 작업 - 가상 스레드로 실행 (동시 실행 수만 제한)
+    @Bean(name = "blockingIoExecutor")
+    public SimpleAsyncTaskExecutor blockingIoExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("blocking-io-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(200);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
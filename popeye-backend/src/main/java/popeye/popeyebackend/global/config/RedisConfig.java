@@ -6,7 +6,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import popeye.popeyebackend.content.service.ContentDetailCache;
+import popeye.popeyebackend.global.security.service.TokenRevocationCache;
 
 //U-02: Redis 설정- TTL관리(Time To Live)
 @Configuration
@@ -34,4 +38,15 @@ public class RedisConfig {
 
         return redisTemplate;
     }
-}
\ No newline at end of file
+
+    // JWT 폐기 알림, 콘텐츠 상세 캐시 버전 변경 알림 구독 (모든 서버의 로컬 캐시 무효화)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(TokenRevocationCache tokenRevocationCache,
+                                                                       ContentDetailCache contentDetailCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(tokenRevocationCache, new ChannelTopic(TokenRevocationCache.CHANNEL));
+        container.addMessageListener(contentDetailCache, new ChannelTopic(ContentDetailCache.CHANNEL));
+        return container;
+    }
+}
@@ -75,6 +75,7 @@ public class SecurityConfig {
 
 					// 관리자 전용 경로
 					auth.requestMatchers("/api/admin/**").hasRole("ADMIN");
+					auth.requestMatchers("/actuator/**").hasRole("ADMIN"); // 커넥션 풀/메트릭 등 운영 정보
                     auth.requestMatchers(HttpMethod.GET, "/api/contents/banlist").hasRole("ADMIN");
                     auth.requestMatchers(HttpMethod.GET, "/api/users/ban-user").hasRole("ADMIN");
 
@@ -105,9 +106,7 @@ public class SecurityConfig {
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 )
-                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-                // UsernamePasswordAuthenticationFilter 이전에 JWT 인증 필터를 실행
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()));
 
 		return http.build();
 	}
@@ -21,12 +21,15 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U004", "해당 사용자를 찾을 수 없습니다."),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "U005", "유효하지 않은 토능입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "U006", "만료된 토큰입니다."),
+    TOKEN_REVOCATION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "U007", "토큰 폐기 처리가 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
 
     // pay
     INVALID_REQUEST(HttpStatus.BAD_REQUEST,"P001", "잘못된 요청입니다."),
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "P002","결제 정보를 찾을 수 없습니다."),
     ALREADY_REFUNDED(HttpStatus.BAD_REQUEST, "P003","이미 환불된 결제입니다."),
     NOT_ENOUGH_CREDIT(HttpStatus.BAD_REQUEST, "P004","크레딧이 부족합니다."),
+    PAYMENT_IN_PROGRESS(HttpStatus.ACCEPTED, "P005","결제 요청을 처리 중입니다. 잠시 후 다시 확인해주세요."),
+    PG_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "P006","결제 대행사 응답이 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
 
     // notification
     NO_NOTIFICATION(HttpStatus.NOT_FOUND, "N001", "알림이 없습니다."),
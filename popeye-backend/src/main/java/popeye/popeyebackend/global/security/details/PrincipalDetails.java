@@ -5,51 +5,79 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import popeye.popeyebackend.user.domain.User;
+import popeye.popeyebackend.user.enums.Role;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
 //UserDetails 인터페이스 구현 클래스 - 사용자 인증 정보를 캡슐화
+//로그인/OAuth2 단계에서는 User 엔티티로, JWT 인증 단계에서는 토큰 클레임(userId/email/role/creatorId)으로 생성
 public class PrincipalDetails implements UserDetails, OAuth2User {
 	private final User user;
+    private final Long userId;
+    private final String email;
+    private final Role role;
+    private final Long creatorId;
     Map<String, Object> attributes;
 
 	public PrincipalDetails(User user) {
-		this.user = user;
+		this(user, null);
 	}
 
     public PrincipalDetails(User user, Map<String, Object> attributes) {
         this.attributes = attributes;
         this.user = user;
+        this.userId = user.getId();
+        this.email = user.getEmail();
+        this.role = user.getRole();
+        this.creatorId = user.getCreator() != null ? user.getCreator().getId() : null;
     }
 
-    //User 도메인 객체 반환 (컨트롤러에서 사용)
+    //JWT 클레임 기반 생성 (요청마다 DB 조회 없음, User 엔티티는 없음)
+    public PrincipalDetails(Long userId, String email, Role role, Long creatorId) {
+        this.user = null;
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.creatorId = creatorId;
+    }
+
+    //User 도메인 객체 반환 (로그인/OAuth2 단계에서만 존재, JWT 인증 요청에서는 null)
     public User getUser() {
         return user;
     }
 
     //사용자 ID 반환 (컨트롤러에서 사용)
     public Long getUserId() {
-        return user.getId();
+        return userId;
+    }
+
+    //크리에이터 ID 반환 (크리에이터가 아니면 null)
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public Role getRole() {
+        return role;
     }
 
     //권한 정보 반환 (Spring Security에서 사용)
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole()));
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
     }
 
-    //비밀번호 반환 (Spring Security에서 사용)
+    //비밀번호 반환 (Spring Security에서 사용, 토큰 기반이면 null)
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     //사용자명 반환 (이메일, Spring Security에서 사용)
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     //계정 만료 여부 (기본: 만료되지 않음)
@@ -70,15 +98,15 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
         return true;
     }
 
-    //계정 활성화 여부 (탈퇴하지 않은 사용자만 활성화)
+    //계정 활성화 여부 (탈퇴하지 않은 사용자만 활성화, 탈퇴 시 토큰은 폐기 목록으로 차단)
     @Override
     public boolean isEnabled() {
-        return user.getDeletedAt() == null;
+        return user == null || user.getDeletedAt() == null;
     }
 
     @Override
     public String getName() {
-        return user.getNickname();
+        return user != null ? user.getNickname() : email;
     }
 
     @Override
@@ -23,9 +23,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String token = resolveToken(request);
 
         try {
-            if (token != null && jwtTokenProvider.validateToken(token)) {
+            // 파싱/검증은 getAuthentication에서 한 번만 수행 (유효하지 않거나 폐기된 토큰이면 null)
+            if (token != null) {
                 Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (authentication != null) {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             logger.error("Invalid JWT Token", e);
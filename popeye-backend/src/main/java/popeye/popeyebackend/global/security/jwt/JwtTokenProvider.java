@@ -1,7 +1,7 @@
 package popeye.popeyebackend.global.security.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,9 +12,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import popeye.popeyebackend.global.security.details.PrincipalDetails;
+import popeye.popeyebackend.global.security.service.TokenRevocationCache;
+import popeye.popeyebackend.user.domain.User;
+import popeye.popeyebackend.user.enums.Role;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 
 
@@ -22,53 +27,87 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+	public static final Duration TOKEN_VALIDITY = Duration.ofHours(1);
+
+	private static final String CLAIM_USER_ID = "uid";
+	private static final String CLAIM_ROLE = "role";
+	private static final String CLAIM_CREATOR_ID = "cid";
+
 	private final UserDetailsService userDetailsService;
+	private final TokenRevocationCache tokenRevocationCache;
 
 	@Value("${popeye.secret-key}")
 	private String secretKey;
 
-	private SecretKey key;
+	// true: 토큰 클레임만으로 인증 (요청마다 DB 조회 없음), false: 기존처럼 이메일로 사용자 조회
+	@Value("${popeye.jwt.stateless:true}")
+	private boolean stateless;
 
-	private final long tokenValidTime = 60 * 60 * 1000L;
+	private SecretKey key;
 
 	@PostConstruct
 	protected void init() {
 		this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
 	}
 
-	public String createToken(String email, String role) {
-		Claims claims = Jwts.claims().subject(email).build();
+	/**
+	 * 토큰 발급: subject(email) + userId/role/creatorId 클레임
+	 * 역할이나 크리에이터 여부가 바뀌면 TokenRevocationCache.revoke로 기존 토큰을 폐기하고 재로그인으로 새로 발급
+	 */
+	public String createToken(User user) {
 		Date now = new Date();
+		Long creatorId = user.getCreator() != null ? user.getCreator().getId() : null;
 
         return Jwts.builder()
-                .claims(claims)
-                .claim("role", role)
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_CREATOR_ID, creatorId)
                 .issuedAt(now)
-                .expiration(new Date(now.getTime() + tokenValidTime))
+                .expiration(new Date(now.getTime() + TOKEN_VALIDITY.toMillis()))
                 .signWith(key)
                 .compact();
     }
-//principaldetails
+
+	/**
+	 * 토큰을 한 번만 파싱해 인증 객체 생성 (서명/만료 검증 포함)
+	 * 유효하지 않거나 폐기된 토큰이면 null
+	 */
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserEmail(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-    }
+		Claims claims = parseClaims(token);
+		if (claims == null) {
+			return null;
+		}
 
-	public String getUserEmail(String token) {
-		return Jwts.parser()
-			.verifyWith(key)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload()
-			.getSubject();
-	}
+		Long userId = claims.get(CLAIM_USER_ID, Long.class);
+		// userId 클레임이 없는 이전 형식 토큰은 만료될 때까지 기존 방식으로 인증
+		if (!stateless || userId == null) {
+			UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+			return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+		}
+
+		if (tokenRevocationCache.isRevoked(userId, claims.getIssuedAt())) {
+			return null;
+		}
+
+		PrincipalDetails principal = new PrincipalDetails(
+			userId,
+			claims.getSubject(),
+			Role.valueOf(claims.get(CLAIM_ROLE, String.class)),
+			claims.get(CLAIM_CREATOR_ID, Long.class)
+		);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
 
-	public boolean validateToken(String jwtToken) {
+	private Claims parseClaims(String token) {
 		try {
-			Jws<Claims> claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(jwtToken);
-			return !claims.getPayload().getExpiration().before(new Date());
-		} catch (Exception e) {
-			return false;
+			return Jwts.parser()
+				.verifyWith(key)
+				.build()
+				.parseSignedClaims(token)
+				.getPayload();
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
 		}
 	}
-}
\ No newline at end of file
+}
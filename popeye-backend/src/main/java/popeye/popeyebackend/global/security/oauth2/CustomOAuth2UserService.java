@@ -9,6 +9,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import popeye.popeyebackend.global.security.details.PrincipalDetails;
+import popeye.popeyebackend.global.security.service.CustomUserDetailsService;
 import popeye.popeyebackend.pay.service.FreeCreditPolicyService;
 import popeye.popeyebackend.user.domain.User;
 import popeye.popeyebackend.user.enums.Role;
@@ -27,6 +28,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
     private final ReferralCodeService referralCodeService;
     private final FreeCreditPolicyService freeCreditPolicyService;
+    private final CustomUserDetailsService customUserDetailsService;
 
     //OAuth2 로그인 시 사용자 정보를 가져와서 처리
     @Override
@@ -61,6 +63,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 //            user.updateProfile(user.getNickname(), picture);
 //        }
 
+        //토큰 클레임에 현재 역할이 담기도록 발급 전에 차단 상태 갱신
+        customUserDetailsService.refreshBanStatus(user);
+
         userRepository.save(user);
 
         return new PrincipalDetails(user, oAuth2User.getAttributes());
@@ -36,7 +36,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
         User user = principalDetails.getUser();
         //1. jwt 토큰 생성
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = jwtTokenProvider.createToken(user);
 
         log.info("OAuth2 로그인 성공 - Email: {}, Role: {}", user.getEmail(), user.getRole());
 
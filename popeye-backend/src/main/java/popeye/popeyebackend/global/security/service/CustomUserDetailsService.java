@@ -34,14 +34,19 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UserNotFoundException("유저를 찾을 수 없습니다."));
 
         //차단된 사용자 상태 검증 및 자동 복구
-        if (user.getRole() == Role.BLOCKED) {
-            validateBanStatus(user);
-        }
+        refreshBanStatus(user);
 
         //PrincipalDetails 반환 (UserDetails 인터페이스 구현체)
         return new PrincipalDetails(user);
     }
 
+    //차단된 사용자 상태 검증 및 자동 복구 (토큰 발급 전 로그인 단계에서도 호출, 호출 측 트랜잭션에서 반영)
+    public void refreshBanStatus(User user) {
+        if (user.getRole() == Role.BLOCKED) {
+            validateBanStatus(user);
+        }
+    }
+
     //차단된 사용자 상태 검증 및 자동 복구 로직
     private void validateBanStatus(User user) {
         BannedUser bannedInfo = bannedUserRepository.findByUser(user)
@@ -0,0 +1,106 @@
+package popeye.popeyebackend.global.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import popeye.popeyebackend.global.exception.ApiException;
+import popeye.popeyebackend.global.exception.ErrorCode;
+import popeye.popeyebackend.global.security.jwt.JwtTokenProvider;
+import popeye.popeyebackend.global.util.TransactionUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * JWT 폐기 목록 (Caffeine 로컬 -> Redis)
+ * 차단/차단 해제/크리에이터 승격/탈퇴처럼 토큰 클레임(role, creatorId)이 더 이상 맞지 않게 되면
+ * 사용자별 폐기 시각을 Redis에 기록하고, 그 이전에 발급된 토큰은 거부 (다시 로그인하면 새 클레임으로 발급)
+ * - 로그아웃도 같은 방식으로 사용자의 기존 토큰을 모두 폐기
+ * - 폐기 시각은 토큰 유효 시간만큼만 보관 (그 이후에는 이전 토큰이 모두 만료됨)
+ * - 폐기 시 pub/sub으로 모든 서버의 로컬 캐시를 즉시 무효화, 메시지 유실 대비 로컬 TTL도 짧게 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationCache implements MessageListener {
+
+    public static final String CHANNEL = "auth:revocation";
+    private static final String REVOKED_PREFIX = "auth:revoked:";
+    private static final long NOT_REVOKED = 0L;
+
+    private final StringRedisTemplate redisTemplate;
+
+    // userId -> 폐기 시각(epoch 초), 폐기 이력이 없으면 NOT_REVOKED
+    private final Cache<Long, Long> localCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    /**
+     * 토큰 발급 시각이 사용자의 폐기 시각 이전이면 폐기된 토큰
+     * Redis 장애 시에는 인증 자체가 막히지 않도록 폐기되지 않은 것으로 처리
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        long revokedAt;
+        try {
+            revokedAt = localCache.get(userId, this::readRevokedAt);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 조회 실패. userId= {}", userId, e);
+            return false;
+        }
+        // JWT iat는 초 단위이므로 폐기 직후 같은 초에 재로그인한 토큰은 허용
+        return revokedAt != NOT_REVOKED && issuedAt.getTime() / 1000 < revokedAt;
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 토큰을 폐기
+     * 폐기 시각은 트랜잭션 커밋 전에 기록하고, 기록에 실패하면 예외로 트랜잭션(차단/탈퇴 등)을 롤백시킴
+     * - 커밋 전에 기록했다가 롤백되면 토큰만 폐기된 상태가 되지만 재로그인하면 되므로 허용
+     * - 기록과 커밋 사이에 재로그인해 이전 클레임으로 발급된 토큰도 막도록 커밋 후 폐기 시각을 한 번 더 갱신
+     */
+    public void revoke(Long userId) {
+        try {
+            writeRevokedAt(userId);
+        } catch (Exception e) {
+            log.error("토큰 폐기 실패. userId= {}", userId, e);
+            throw new ApiException(ErrorCode.TOKEN_REVOCATION_UNAVAILABLE);
+        }
+        TransactionUtil.runAfterCommit(() -> {
+            try {
+                writeRevokedAt(userId);
+                localCache.invalidate(userId);
+                redisTemplate.convertAndSend(CHANNEL, String.valueOf(userId));
+            } catch (Exception e) {
+                // 커밋 전 기록은 끝났으므로 다른 서버는 로컬 TTL 이후 반영
+                log.warn("토큰 폐기 전파 실패. userId= {}", userId, e);
+            }
+        });
+    }
+
+    // 다른 서버에서 폐기한 사용자의 로컬 캐시 무효화
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+        }
+    }
+
+    private void writeRevokedAt(Long userId) {
+        long now = System.currentTimeMillis() / 1000;
+        redisTemplate.opsForValue().set(REVOKED_PREFIX + userId, String.valueOf(now), JwtTokenProvider.TOKEN_VALIDITY);
+    }
+
+    private Long readRevokedAt(Long userId) {
+        String value = redisTemplate.opsForValue().get(REVOKED_PREFIX + userId);
+        return value != null ? Long.parseLong(value) : NOT_REVOKED;
+    }
+}
@@ -15,8 +15,8 @@ public class EmailService {
 
     private final JavaMailSender mailSender;
 
-    //텍스트 메일 발송, 비동기처리(@Async)
-    @Async
+    //텍스트 메일 발송, 비동기처리(@Async, 가상 스레드)
+    @Async("blockingIoExecutor")
     public void sendEmail(String to, String subject, String text) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
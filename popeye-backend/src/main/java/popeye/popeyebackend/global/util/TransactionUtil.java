@@ -0,0 +1,25 @@
+package popeye.popeyebackend.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//트랜잭션 후처리 유틸리티 (캐시 갱신 등 외부 저장소 반영용)
+public class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    //현재 트랜잭션이 커밋된 뒤 실행, 트랜잭션 밖이면 즉시 실행
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
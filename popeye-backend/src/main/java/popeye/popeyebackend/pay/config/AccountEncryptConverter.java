@@ -7,6 +7,7 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 계좌번호를 AES-256으로 암호화/복호화하는 AttributeConverter
@@ -22,6 +23,8 @@ public class AccountEncryptConverter implements AttributeConverter<String, Strin
 	
 	// 키 캐싱을 위한 volatile 변수
 	private static volatile byte[] cachedSecretKey = null;
+	// 최초 키 로딩 잠금 (synchronized는 가상 스레드를 캐리어 스레드에 고정시키므로 ReentrantLock 사용)
+	private static final ReentrantLock KEY_LOCK = new ReentrantLock();
 	
 	/**
 	 * 환경변수에서 암호화 키를 읽어 반환
@@ -35,7 +38,8 @@ public class AccountEncryptConverter implements AttributeConverter<String, Strin
 			return cachedSecretKey;
 		}
 		
-		synchronized (AccountEncryptConverter.class) {
+		KEY_LOCK.lock();
+		try {
 			if (cachedSecretKey != null) {
 				return cachedSecretKey;
 			}
@@ -65,6 +69,8 @@ public class AccountEncryptConverter implements AttributeConverter<String, Strin
 					e
 				);
 			}
+		} finally {
+			KEY_LOCK.unlock();
 		}
 	}
 
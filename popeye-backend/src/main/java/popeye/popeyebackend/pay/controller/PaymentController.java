@@ -14,6 +14,7 @@ import popeye.popeyebackend.pay.dto.payment.PreparePaymentResponseDto;
 import popeye.popeyebackend.pay.dto.payment.RefundRequestDto;
 
 
+import popeye.popeyebackend.pay.service.PaymentIdempotencyService;
 import popeye.popeyebackend.pay.service.PaymentService;
 
 @RestController
@@ -21,6 +22,7 @@ import popeye.popeyebackend.pay.service.PaymentService;
 @RequiredArgsConstructor
 public class PaymentController {
     private final PaymentService paymentService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
 
     /**
      * 결제 준비
@@ -47,6 +49,7 @@ public class PaymentController {
     /**
      * 결제 승인 반영(성공:DONE + PAID Credit 1 row)
      * POST /api/payments/confirm
+     * 같은 pgOrderId 중복 요청: 처리 중이면 202, 이미 완료되었으면 204
      */
     @PostMapping("/confirm")
     public ResponseEntity<Void> confirm(
@@ -59,10 +62,13 @@ public class PaymentController {
         }
 
         try {
-            paymentService.confirmCharge(
+            paymentIdempotencyService.confirm(
                     confirmPaymentRequestDto.getPgOrderId(),
-                    confirmPaymentRequestDto.getPaymentKey(),
-                    confirmPaymentRequestDto.getAmount()
+                    () -> paymentService.confirmCharge(
+                            confirmPaymentRequestDto.getPgOrderId(),
+                            confirmPaymentRequestDto.getPaymentKey(),
+                            confirmPaymentRequestDto.getAmount()
+                    )
             );
         } catch (ApiException e) {
             // 에러를 그대로 전달
@@ -78,6 +84,7 @@ public class PaymentController {
     /**
      * 결제 환불
      * POST /api/payments/{paymentId}/refund
+     * 같은 paymentId 중복 요청: 처리 중이면 202, 이미 완료되었으면 204
      */
     @PostMapping("/{paymentId}/refund")
     public ResponseEntity<Void> refund(@PathVariable Long paymentId,
@@ -88,7 +95,11 @@ public class PaymentController {
         // 임시: 인증 시스템 완성 전까지 임시 userId 사용
          Long userId = principalDetails.getUserId();
 
-        paymentService.refund(paymentId, refundRequestDto.getCancelReason(), userId);
+        paymentIdempotencyService.refund(
+                paymentId,
+                userId,
+                () -> paymentService.refund(paymentId, refundRequestDto.getCancelReason(), userId)
+        );
         return ResponseEntity.noContent().build();
     }
 }
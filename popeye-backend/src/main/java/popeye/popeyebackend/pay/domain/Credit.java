@@ -15,7 +15,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "credits")
+@Table(name = "credits", indexes = {
+        // 지갑 차감 시 사용자별 남은 버킷 조회용 (다 쓴 버킷 제외, FREE: expired_at 순, PAID: paid_at 순, amount까지 커버)
+        @Index(name = "idx_credits_wallet_remaining", columnList = "user_id, credit_type, depleted, expired_at, paid_at, id, amount"),
+        // 무료 크레딧 만료 배치 대상 범위 조회용
+        @Index(name = "idx_credits_expiration", columnList = "credit_type, expired_at")
+})
 public class Credit {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +31,11 @@ public class Credit {
 
     private int amount;
 
+    // 다 쓴 버킷 여부 (DB 생성 컬럼, amount 변경 시 MySQL이 자동 갱신)
+    @Column(name = "depleted", insertable = false, updatable = false,
+            columnDefinition = "tinyint(1) GENERATED ALWAYS AS (amount <= 0) STORED")
+    private boolean depleted;
+
     @Column(name = "expired_at")
     private LocalDateTime expiredAt;
 
@@ -54,6 +64,11 @@ public class Credit {
         this.amount = 0;
     }
 
+    // 환불 보류 해제: 결제 당시 수량으로 복구
+    public void restore(int value){
+        this.amount = value;
+    }
+
     // Credit 차감
     public void deduct(int value) {
         if (value < 0) throw new IllegalArgumentException("차감 값은 0이상이어야 합니다.");
@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "credit_histories")
+@Table(name = "credit_histories", indexes = {
+        // 일일 통계: 하루치 잔액 변동 합계 조회용
+        @Index(name = "idx_credit_histories_changed", columnList = "changed_at, credit_type")
+})
 public class CreditHistory {
 
     @Id
@@ -18,6 +18,9 @@ import java.time.LocalDateTime;
 @Builder
 @Table(name = "orders", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "content_id"})
+}, indexes = {
+        // 정산 Writer: chunk 콘텐츠들의 기간 내 미정산 주문 id 조회용
+        @Index(name = "idx_orders_settlement", columnList = "content_id, settlement, created_at")
 })
 public class Order {
     @Id
@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        // 복구 스케줄러: 오래된 PENDING/CANCEL_PENDING 결제 조회용
+        @Index(name = "idx_payments_pending", columnList = "payment_type, pending_at")
+})
 public class Payment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -40,7 +43,7 @@ public class Payment {
     @Column(name = "pg_order_id", nullable = false, unique = true, updatable = false)
     private String pgOrderId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -60,15 +63,29 @@ public class Payment {
     @Column(name = "failure_reason")
     private String failureReason;
 
+    // PG 호출 시작 시각 (PENDING/CANCEL_PENDING 진입 시각)
+    @Column(name = "pending_at")
+    private LocalDateTime pendingAt;
+
     @PrePersist
     void prePersist(){
         this.createdAt = LocalDateTime.now();
         this.paymentType = PaymentType.CREATED;
     }
 
-    public void approve(String paymentKey, String receipt){
+    // PG 승인 호출 직전: CREATED -> PENDING
+    public void markPending(String paymentKey){
         if (this.paymentType != PaymentType.CREATED){
-            throw new IllegalStateException("CREATED 상태에서만 결제 승인 가능");
+            throw new IllegalStateException("CREATED 상태에서만 결제 승인 요청 가능");
+        }
+        this.paymentKey = paymentKey;
+        this.paymentType = PaymentType.PENDING;
+        this.pendingAt = LocalDateTime.now();
+    }
+
+    public void approve(String paymentKey, String receipt){
+        if (this.paymentType != PaymentType.PENDING){
+            throw new IllegalStateException("PENDING 상태에서만 결제 승인 가능");
         }
         this.paymentKey = paymentKey;
         this.receipt = receipt;
@@ -77,18 +94,36 @@ public class Payment {
     }
 
     public void abort(String reason){
-        if (this.paymentType != PaymentType.CREATED){
-            throw new IllegalStateException("CREATED 상태에서만 결제 승인 가능");
+        if (this.paymentType != PaymentType.CREATED && this.paymentType != PaymentType.PENDING){
+            throw new IllegalStateException("CREATED/PENDING 상태에서만 결제 실패 처리 가능");
         }
         this.paymentType = PaymentType.ABORTED;
         this.failureReason = reason;
     }
 
-    public void cancel(){
+    // PG 취소 호출 직전: DONE -> CANCEL_PENDING
+    public void markCancelPending(){
         if (this.paymentType != PaymentType.DONE){
-            throw new IllegalStateException("DONE 상태에서만 결제 승인 가능");
+            throw new IllegalStateException("DONE 상태에서만 결제 취소 요청 가능");
+        }
+        this.paymentType = PaymentType.CANCEL_PENDING;
+        this.pendingAt = LocalDateTime.now();
+    }
+
+    public void cancel(){
+        if (this.paymentType != PaymentType.CANCEL_PENDING){
+            throw new IllegalStateException("CANCEL_PENDING 상태에서만 결제 취소 가능");
         }
         this.paymentType = PaymentType.CANCELED;
         this.canceledAt = LocalDateTime.now();
     }
+
+    // PG 취소 실패: CANCEL_PENDING -> DONE
+    public void revertCancel(String reason){
+        if (this.paymentType != PaymentType.CANCEL_PENDING){
+            throw new IllegalStateException("CANCEL_PENDING 상태에서만 취소 실패 처리 가능");
+        }
+        this.paymentType = PaymentType.DONE;
+        this.failureReason = reason;
+    }
 }
@@ -0,0 +1,47 @@
+package popeye.popeyebackend.pay.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * (creator, content) 단위 누적 정산 집계
+ * 정산 배치 Writer가 settlements 저장과 같은 트랜잭션에서 누적 (SettlementRollupJdbcRepository)
+ * 컨텐츠별 누적 정산 요약 API는 settlements 대신 이 테이블만 조회
+ */
+@Entity
+@Table(name = "settlement_content_rollups",
+	uniqueConstraints = @UniqueConstraint(name = "uk_settlement_content_rollups_content",
+		columnNames = {"content_id"}),
+	indexes = @Index(name = "idx_settlement_content_rollups_creator", columnList = "creator_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementContentRollup {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "creator_id", nullable = false)
+	private Long creatorId;
+
+	@Column(name = "content_id", nullable = false)
+	private Long contentId;
+
+	@Column(name = "settlement_count", nullable = false)
+	private Long settlementCount;
+
+	@Column(name = "total_revenue", nullable = false)
+	private Long totalRevenue;
+
+	@Column(name = "total_platform_fee", nullable = false)
+	private Long totalPlatformFee;
+
+	@Column(name = "total_payout", nullable = false)
+	private Long totalPayout;
+
+	@Column(name = "last_settled_at", nullable = false)
+	private LocalDateTime lastSettledAt;
+}
@@ -0,0 +1,15 @@
+package popeye.popeyebackend.pay.dto.credit;
+
+import java.time.LocalDateTime;
+
+/**
+ * 차감 대상 크레딧 버킷(credits 행) 한 건
+ * expiredAt/paidAt/id는 다음 페이지 조회(keyset) 기준으로 사용
+ */
+public record CreditBucket(
+        Long id,
+        int amount,
+        LocalDateTime expiredAt,
+        LocalDateTime paidAt
+) {
+}
@@ -0,0 +1,10 @@
+package popeye.popeyebackend.pay.dto.credit;
+
+/**
+ * 크레딧 버킷(credits 행) 하나에서 차감할 수량
+ */
+public record CreditDeduction(
+        Long creditId,
+        int amount
+) {
+}
@@ -0,0 +1,20 @@
+package popeye.popeyebackend.pay.dto.credit;
+
+import popeye.popeyebackend.pay.enums.CreditType;
+import popeye.popeyebackend.pay.enums.ReasonType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 커밋 직전에 일괄 저장할 크레딧 변동 내역 한 건
+ */
+public record CreditHistoryEntry(
+        Long userId,
+        CreditType creditType,
+        ReasonType reasonType,
+        int delta,
+        Long orderId,
+        Long paymentId,
+        LocalDateTime changedAt
+) {
+}
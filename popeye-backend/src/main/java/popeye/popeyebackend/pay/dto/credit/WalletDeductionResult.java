@@ -0,0 +1,10 @@
+package popeye.popeyebackend.pay.dto.credit;
+
+/**
+ * 지갑 차감 결과 (무료/유료 크레딧 사용량)
+ */
+public record WalletDeductionResult(
+        int usedFree,
+        int usedPaid
+) {
+}
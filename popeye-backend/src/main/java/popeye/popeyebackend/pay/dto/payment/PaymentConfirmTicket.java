@@ -0,0 +1,12 @@
+package popeye.popeyebackend.pay.dto.payment;
+
+/**
+ * PENDING 전환 후 PG 승인 호출에 필요한 값
+ */
+public record PaymentConfirmTicket(
+        Long paymentId,
+        String pgOrderId,
+        String paymentKey,
+        int amount
+) {
+}
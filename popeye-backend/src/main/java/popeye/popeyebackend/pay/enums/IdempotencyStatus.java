@@ -0,0 +1,6 @@
+package popeye.popeyebackend.pay.enums;
+
+public enum IdempotencyStatus {
+    IN_FLIGHT,  // 처리 중
+    COMPLETED   // 처리 완료
+}
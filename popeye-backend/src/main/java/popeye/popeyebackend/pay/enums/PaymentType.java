@@ -2,7 +2,9 @@ package popeye.popeyebackend.pay.enums;
 
 public enum PaymentType {
     CREATED,
+    PENDING,        // PG 승인 요청 중 (결과 반영 전)
     DONE,
+    CANCEL_PENDING, // PG 취소 요청 중 (결과 반영 전)
     CANCELED,
     ABORTED,
 
@@ -0,0 +1,107 @@
+package popeye.popeyebackend.pay.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 무료 크레딧 만료 처리용 JDBC 리포지토리 (집합 기반 SQL)
+ * 엔티티를 로딩하지 않고 id 구간 단위로 사용자 잠금 -> 내역 기록 -> 사용자 잔액 차감 -> 크레딧 0 처리
+ * 모든 쿼리가 같은 조건(구간 + 만료된 FREE + 잔여 수량)으로 대상 행을 고름
+ * 구매/사용은 users -> credits 순서로 잠그므로 만료도 대상 사용자를 먼저 잠근 뒤 credits를 읽음 (역순이면 교착)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CreditExpirationJdbcRepository {
+
+	private static final String EXPIRED_CONDITION = """
+		c.id >= ? AND c.id < ?
+		AND c.credit_type = 'FREE'
+		AND c.amount > 0
+		AND c.expired_at < ?
+		""";
+
+	private static final String ID_BOUNDS_SQL = """
+		SELECT MIN(c.id) AS min_id, MAX(c.id) AS max_id
+		FROM credits c
+		WHERE c.credit_type = 'FREE'
+		  AND c.amount > 0
+		  AND c.expired_at < ?
+		""";
+
+	// 대상 사용자만 잠금 (credits는 잠그지 않는 일반 읽기, FOR UPDATE OF u)
+	private static final String LOCK_USERS_SQL = """
+		SELECT u.id
+		FROM users u
+		JOIN (
+		    SELECT DISTINCT c.user_id
+		    FROM credits c
+		    WHERE """ + EXPIRED_CONDITION + """
+		) e ON e.user_id = u.id
+		ORDER BY u.id
+		FOR UPDATE OF u
+		""";
+
+	// 크레딧 1행당 만료 내역 1행 (기존 건별 기록과 동일)
+	private static final String INSERT_HISTORY_SQL = """
+		INSERT INTO credit_histories
+		    (user_id, credit_type, reason_type, credit_delta, order_id, payment_id, changed_at)
+		SELECT c.user_id, 'FREE', 'EXPIRE', -c.amount, NULL, NULL, ?
+		FROM credits c
+		WHERE """ + EXPIRED_CONDITION;
+
+	// 사용자별 만료 수량을 합산해 한 번에 차감
+	private static final String DECREASE_USER_SQL = """
+		UPDATE users u
+		JOIN (
+		    SELECT c.user_id, SUM(c.amount) AS expired_amount
+		    FROM credits c
+		    WHERE """ + EXPIRED_CONDITION + """
+		    GROUP BY c.user_id
+		) e ON e.user_id = u.id
+		SET u.total_spinach = u.total_spinach - e.expired_amount
+		""";
+
+	private static final String ZEROIZE_SQL = """
+		UPDATE credits c
+		SET c.amount = 0
+		WHERE """ + EXPIRED_CONDITION;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 만료 대상 크레딧의 id 범위 [min, max]
+	 */
+	public Optional<long[]> findExpiredIdBounds(LocalDateTime expireAt) {
+		return jdbcTemplate.query(ID_BOUNDS_SQL, rs -> {
+			if (!rs.next()) {
+				return Optional.empty();
+			}
+			long minId = rs.getLong("min_id");
+			if (rs.wasNull()) {
+				return Optional.empty();
+			}
+			return Optional.of(new long[] {minId, rs.getLong("max_id")});
+		}, Timestamp.valueOf(expireAt));
+	}
+
+	/**
+	 * id 구간 [startId, endId) 안의 만료 크레딧 처리
+	 * 호출 측 트랜잭션 안에서 실행되어야 함 (사용자 잠금이 커밋까지 유지되고 모든 쿼리가 함께 커밋/롤백)
+	 *
+	 * @return 만료 처리된 크레딧 행 수
+	 */
+	public int expireRange(long startId, long endId, LocalDateTime expireAt, LocalDateTime changedAt) {
+		Timestamp expire = Timestamp.valueOf(expireAt);
+
+		jdbcTemplate.queryForList(LOCK_USERS_SQL, Long.class, startId, endId, expire);
+		jdbcTemplate.update(INSERT_HISTORY_SQL, Timestamp.valueOf(changedAt), startId, endId, expire);
+		jdbcTemplate.update(DECREASE_USER_SQL, startId, endId, expire);
+		return jdbcTemplate.update(ZEROIZE_SQL, startId, endId, expire);
+	}
+}
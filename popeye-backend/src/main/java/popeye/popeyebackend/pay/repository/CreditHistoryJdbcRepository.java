@@ -0,0 +1,54 @@
+package popeye.popeyebackend.pay.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import popeye.popeyebackend.pay.dto.credit.CreditHistoryEntry;
+
+/**
+ * CreditHistory 일괄 저장용 JDBC 리포지토리
+ * IDENTITY 전략에서는 Hibernate batch insert가 동작하지 않으므로 JDBC batch 사용
+ * (rewriteBatchedStatements=true 설정으로 MySQL에는 multi-row INSERT로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CreditHistoryJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_HISTORY_SQL = """
+		INSERT INTO credit_histories
+		    (user_id, credit_type, reason_type, credit_delta, order_id, payment_id, changed_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(List<CreditHistoryEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, entries, BATCH_SIZE, (ps, e) -> {
+			ps.setLong(1, e.userId());
+			ps.setString(2, e.creditType().name());
+			ps.setString(3, e.reasonType().name());
+			ps.setInt(4, e.delta());
+			if (e.orderId() != null) {
+				ps.setLong(5, e.orderId());
+			} else {
+				ps.setNull(5, Types.BIGINT);
+			}
+			if (e.paymentId() != null) {
+				ps.setLong(6, e.paymentId());
+			} else {
+				ps.setNull(6, Types.BIGINT);
+			}
+			ps.setTimestamp(7, Timestamp.valueOf(e.changedAt()));
+		});
+	}
+}
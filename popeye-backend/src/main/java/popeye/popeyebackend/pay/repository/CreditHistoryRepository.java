@@ -3,8 +3,27 @@ package popeye.popeyebackend.pay.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import popeye.popeyebackend.pay.domain.CreditHistory;
+import popeye.popeyebackend.pay.enums.CreditType;
+
+import java.time.LocalDateTime;
 
 public interface CreditHistoryRepository extends JpaRepository<CreditHistory, Long> {
     Page<CreditHistory> findByUser_IdOrderByChangedAtDesc(Long userId, Pageable pageable);
+
+    // 기간 내 잔액 변동 합계 (충전/구매/환불/만료 모두 내역이 남으므로 users 잔액 합계의 증감과 같음)
+    @Query("select coalesce(sum(h.delta), 0) from CreditHistory h " +
+            "where h.creditType = :type " +
+            "and h.changedAt >= :start and h.changedAt < :end")
+    Long sumDeltaByCreditTypeAndDate(@Param("type") CreditType type,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end);
+
+    // 특정 시각 이후 잔액 변동 합계 (이전 통계 행이 없을 때 그날 마감 잔액 역산용)
+    @Query("select coalesce(sum(h.delta), 0) from CreditHistory h " +
+            "where h.creditType = :type " +
+            "and h.changedAt >= :since")
+    Long sumDeltaByCreditTypeSince(@Param("type") CreditType type, @Param("since") LocalDateTime since);
 }
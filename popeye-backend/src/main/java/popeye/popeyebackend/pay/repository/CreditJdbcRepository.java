@@ -0,0 +1,129 @@
+package popeye.popeyebackend.pay.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import popeye.popeyebackend.pay.dto.credit.CreditBucket;
+import popeye.popeyebackend.pay.dto.credit.CreditDeduction;
+
+/**
+ * 크레딧 차감용 JDBC 리포지토리
+ * Credit 엔티티를 로딩/더티체킹하지 않고 batch update로 차감
+ *
+ * 버킷 조회는 idx_credits_wallet_remaining (user_id, credit_type, depleted, expired_at, paid_at, id, amount) 순서 그대로
+ * - depleted = 0 조건으로 다 쓴 버킷은 인덱스 범위에서 빠지므로 사용 이력이 늘어도 조회 범위가 커지지 않음
+ * - 다음 페이지는 직전 행 기준 keyset으로 이어서 조회 (OFFSET으로 앞 페이지를 다시 읽지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CreditJdbcRepository {
+
+	// 잔액이 차감량 이상일 때만 차감 (동시 차감으로 잔액이 바뀐 경우 0건 반영)
+	private static final String DEDUCT_SQL =
+		"UPDATE credits SET amount = amount - ? WHERE id = ? AND amount >= ?";
+
+	// FREE: 만료 임박 순 (expired_at, paid_at, id)
+	private static final String FREE_BUCKETS_SQL = """
+		SELECT c.id, c.amount, c.expired_at, c.paid_at
+		FROM credits c
+		WHERE c.user_id = ?
+		  AND c.credit_type = 'FREE'
+		  AND c.depleted = 0
+		  AND c.expired_at > ?
+		""";
+	private static final String FREE_BUCKETS_AFTER_SQL = """
+		  AND (c.expired_at > ?
+		       OR (c.expired_at = ? AND (c.paid_at > ? OR (c.paid_at = ? AND c.id > ?))))
+		""";
+	private static final String FREE_BUCKETS_ORDER_SQL =
+		"ORDER BY c.expired_at, c.paid_at, c.id LIMIT ?";
+
+	// PAID: 결제 순 (paid_at, id), PAID 크레딧은 expired_at이 항상 NULL
+	private static final String PAID_BUCKETS_SQL = """
+		SELECT c.id, c.amount, c.expired_at, c.paid_at
+		FROM credits c
+		WHERE c.user_id = ?
+		  AND c.credit_type = 'PAID'
+		  AND c.depleted = 0
+		  AND c.expired_at IS NULL
+		""";
+	private static final String PAID_BUCKETS_AFTER_SQL =
+		"AND (c.paid_at > ? OR (c.paid_at = ? AND c.id > ?))\n";
+	private static final String PAID_BUCKETS_ORDER_SQL =
+		"ORDER BY c.paid_at, c.id LIMIT ?";
+
+	private static final RowMapper<CreditBucket> BUCKET_ROW_MAPPER = (rs, rowNum) -> new CreditBucket(
+		rs.getLong("id"),
+		rs.getInt("amount"),
+		toLocalDateTime(rs.getTimestamp("expired_at")),
+		toLocalDateTime(rs.getTimestamp("paid_at"))
+	);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 사용 가능한 FREE 버킷을 만료 임박 순으로 limit건 조회
+	 *
+	 * @param after 직전 페이지의 마지막 버킷 (첫 페이지면 null)
+	 */
+	public List<CreditBucket> findFreeBuckets(Long userId, LocalDateTime now, CreditBucket after, int limit) {
+		List<Object> args = new ArrayList<>(List.of(userId, Timestamp.valueOf(now)));
+		StringBuilder sql = new StringBuilder(FREE_BUCKETS_SQL);
+		if (after != null) {
+			Timestamp expiredAt = Timestamp.valueOf(after.expiredAt());
+			Timestamp paidAt = Timestamp.valueOf(after.paidAt());
+			sql.append(FREE_BUCKETS_AFTER_SQL);
+			args.addAll(List.of(expiredAt, expiredAt, paidAt, paidAt, after.id()));
+		}
+		sql.append(FREE_BUCKETS_ORDER_SQL);
+		args.add(limit);
+		return jdbcTemplate.query(sql.toString(), BUCKET_ROW_MAPPER, args.toArray());
+	}
+
+	/**
+	 * 사용 가능한 PAID 버킷을 결제 순으로 limit건 조회
+	 *
+	 * @param after 직전 페이지의 마지막 버킷 (첫 페이지면 null)
+	 */
+	public List<CreditBucket> findPaidBuckets(Long userId, CreditBucket after, int limit) {
+		List<Object> args = new ArrayList<>(List.of(userId));
+		StringBuilder sql = new StringBuilder(PAID_BUCKETS_SQL);
+		if (after != null) {
+			Timestamp paidAt = Timestamp.valueOf(after.paidAt());
+			sql.append(PAID_BUCKETS_AFTER_SQL);
+			args.addAll(List.of(paidAt, paidAt, after.id()));
+		}
+		sql.append(PAID_BUCKETS_ORDER_SQL);
+		args.add(limit);
+		return jdbcTemplate.query(sql.toString(), BUCKET_ROW_MAPPER, args.toArray());
+	}
+
+	/**
+	 * @return 모든 버킷이 차감되었으면 true
+	 */
+	public boolean deduct(List<CreditDeduction> deductions) {
+		if (deductions.isEmpty()) {
+			return true;
+		}
+		int[][] counts = jdbcTemplate.batchUpdate(DEDUCT_SQL, deductions, deductions.size(), (ps, d) -> {
+			ps.setInt(1, d.amount());
+			ps.setLong(2, d.creditId());
+			ps.setInt(3, d.amount());
+		});
+		return Arrays.stream(counts)
+			.flatMapToInt(Arrays::stream)
+			.allMatch(count -> count == 1);
+	}
+
+	private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+		return timestamp != null ? timestamp.toLocalDateTime() : null;
+	}
+}
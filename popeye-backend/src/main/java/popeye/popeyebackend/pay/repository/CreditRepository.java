@@ -21,20 +21,4 @@ public interface CreditRepository extends JpaRepository<Credit, Long> {
             "and c.creditType = :type")
     Long sumDailySpinachAmountByDate(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("type") CreditType type);
     boolean existsByPayment_Id(Long paymentId);
-    @Query("select c from Credit c " +
-            "where c.user.id = :userId " +
-            "and (c.expiredAt is null or c.expiredAt > :now)" +
-            "and (c.amount > 0)")
-    List<Credit> findUsableCredits(
-            @Param("userId") Long userId,
-            @Param("now")LocalDateTime now
-    );
-
-    @Query("select c from Credit c " +
-            "join fetch c.user u " +
-            "where c.creditType = popeye.popeyebackend.pay.enums.CreditType.FREE " +
-            "and c.expiredAt is not null " +
-            "and c.expiredAt < :now " +
-            "and c.amount > 0 ")
-    List<Credit> findExpiredFreeCredits(@Param("now") LocalDateTime now);
 }
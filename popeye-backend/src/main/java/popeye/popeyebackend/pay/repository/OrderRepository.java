@@ -9,6 +9,7 @@ import popeye.popeyebackend.pay.enums.OrderStatus;
 import popeye.popeyebackend.user.domain.User;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,20 @@ public interface OrderRepository extends JpaRepository<Order,Long> {
     Optional<Order> findByUserIdAndContentId(Long userId, Long contentId);
     
     List<Order> findByUser_IdAndOrderStatus(Long userId, OrderStatus orderStatus);
+
+    // 목록 화면용: 주어진 콘텐츠 중 해당 상태의 주문이 있는 콘텐츠 ID만 조회 (Content 엔티티 로딩 없음)
+    @Query("select o.content.id from Order o " +
+            "where o.user.id = :userId " +
+            "and o.content.id in :contentIds " +
+            "and o.orderStatus = :status")
+    List<Long> findContentIdsByUserIdAndStatus(@Param("userId") Long userId,
+                                               @Param("contentIds") Collection<Long> contentIds,
+                                               @Param("status") OrderStatus status);
+
+    // 구매 권한 캐시 적재용: 사용자의 해당 상태 주문 콘텐츠 ID 전체
+    @Query("select o.content.id from Order o " +
+            "where o.user.id = :userId " +
+            "and o.orderStatus = :status")
+    List<Long> findContentIdsByUserIdAndStatus(@Param("userId") Long userId,
+                                               @Param("status") OrderStatus status);
 }
@@ -0,0 +1,80 @@
+package popeye.popeyebackend.pay.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import popeye.popeyebackend.batch.settlement.dto.SettlementOrderRef;
+
+/**
+ * 정산 대상 주문 처리용 JDBC 리포지토리
+ * 정산 chunk가 집계한 주문 id를 조회한 뒤 PK 단위로 settlement=true 처리
+ * (보조 인덱스 범위 UPDATE와 달리 해당 행의 레코드 잠금만 잡아 잠금 범위가 chunk 크기로 제한됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSettlementJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String FIND_UNSETTLED_SQL = """
+		SELECT o.order_id, o.content_id
+		FROM `orders` o
+		WHERE o.content_id IN (%s)
+		  AND o.order_status = 'COMPLETED'
+		  AND o.settlement = false
+		  AND o.created_at >= ?
+		  AND o.created_at < ?
+		  AND o.order_id <= ?
+		""";
+
+	private static final String MARK_SETTLED_SQL = """
+		UPDATE `orders`
+		SET settlement = true
+		WHERE order_id = ?
+		  AND settlement = false
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 콘텐츠들의 기간 내 미정산 주문 id 조회 (maxOrderId 이하만)
+	 */
+	public List<SettlementOrderRef> findUnsettledOrders(
+		Collection<Long> contentIds, LocalDateTime from, LocalDateTime to, long maxOrderId) {
+		if (contentIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		String placeholders = String.join(", ", Collections.nCopies(contentIds.size(), "?"));
+		List<Object> args = new ArrayList<>(contentIds);
+		args.add(Timestamp.valueOf(from));
+		args.add(Timestamp.valueOf(to));
+		args.add(maxOrderId);
+		return jdbcTemplate.query(FIND_UNSETTLED_SQL.formatted(placeholders),
+			(rs, rowNum) -> new SettlementOrderRef(rs.getLong("order_id"), rs.getLong("content_id")),
+			args.toArray());
+	}
+
+	/**
+	 * 주문 id별로 settlement=true 처리 후 실제로 변경된 행 수 반환
+	 * 이미 정산된 주문은 변경되지 않으므로 호출 측에서 요청 건수와 비교해 중복 정산을 감지
+	 */
+	public int markSettled(List<Long> orderIds) {
+		int updated = 0;
+		int[][] counts = jdbcTemplate.batchUpdate(MARK_SETTLED_SQL, orderIds, BATCH_SIZE,
+			(ps, orderId) -> ps.setLong(1, orderId));
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				updated += count;
+			}
+		}
+		return updated;
+	}
+}
@@ -1,13 +1,17 @@
 package popeye.popeyebackend.pay.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import popeye.popeyebackend.pay.domain.Payment;
 import popeye.popeyebackend.pay.enums.PaymentType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment,Long> {
@@ -17,8 +21,29 @@ public interface PaymentRepository extends JpaRepository<Payment,Long> {
     Optional<Payment> findByIdAndPaymentType(Long paymentId, PaymentType paymentType);
     Optional<Payment> findByPgOrderId(String pgOrderId);
 
+    /**
+     * 상태 전이용 결제 조회 (SELECT ... FOR UPDATE)
+     * 요청 스레드와 복구 스케줄러(여러 인스턴스 포함)가 같은 결제를 동시에 전이하지 않도록 잠근 뒤 상태를 확인
+     * 잠금 순서: 결제 -> 사용자
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.pgOrderId = :pgOrderId")
+    Optional<Payment> findByPgOrderIdForUpdate(@Param("pgOrderId") String pgOrderId);
+
     @Query("select coalesce(sum(p.amount), 0) from Payment p " +
             "where p.createdAt between :start and :end " +
             "and p.paymentType = :type")
     Long sumTotalAmountByDate(LocalDateTime start, LocalDateTime end, PaymentType type);
+
+    // 복구 대상: PG 호출 후 결과가 반영되지 않은 채 오래 남은 결제
+    @Query("select p.id from Payment p " +
+            "where p.paymentType = :type and p.pendingAt < :before " +
+            "order by p.pendingAt")
+    List<Long> findIdsByPaymentTypeAndPendingAtBefore(@Param("type") PaymentType type,
+                                                      @Param("before") LocalDateTime before,
+                                                      Pageable pageable);
 }
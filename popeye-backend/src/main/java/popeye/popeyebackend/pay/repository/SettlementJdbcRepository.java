@@ -0,0 +1,44 @@
+package popeye.popeyebackend.pay.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import popeye.popeyebackend.batch.settlement.dto.SettlementItemDto;
+
+/**
+ * Settlement 일괄 저장용 JDBC 리포지토리
+ * IDENTITY 전략에서는 Hibernate batch insert가 동작하지 않으므로 JDBC batch 사용
+ * creator/content는 엔티티 조회 없이 ID 값만 FK로 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String INSERT_SETTLEMENT_SQL = """
+		INSERT INTO settlements (total_amount, fee_rate, settled_at, creator_id, content_id)
+		VALUES (?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(List<? extends SettlementItemDto> items, LocalDateTime settledAt) {
+		if (items.isEmpty()) {
+			return;
+		}
+		Timestamp settledAtTs = Timestamp.valueOf(settledAt);
+		jdbcTemplate.batchUpdate(INSERT_SETTLEMENT_SQL, items, BATCH_SIZE, (ps, item) -> {
+			ps.setLong(1, item.netAmount());
+			ps.setInt(2, item.feeRate());
+			ps.setTimestamp(3, settledAtTs);
+			ps.setLong(4, item.creatorId());
+			ps.setLong(5, item.contentId());
+		});
+	}
+}
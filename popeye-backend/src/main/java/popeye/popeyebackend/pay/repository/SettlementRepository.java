@@ -7,6 +7,7 @@ import popeye.popeyebackend.pay.domain.Settlement;
 import popeye.popeyebackend.pay.repository.projection.ContentSettlementPeriodProjection;
 import popeye.popeyebackend.pay.repository.projection.ContentSettlementSummaryProjection;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -32,72 +33,46 @@ public interface SettlementRepository extends JpaRepository<Settlement,Long> {
 
 	/**
 	 * 크리에이터의 콘텐츠별 누적 정산 요약 조회
-	 * contentId별로 그룹화하여 집계
+	 * 정산 배치가 유지하는 settlement_content_rollups에서 콘텐츠당 1행만 읽음
 	 * - content와 join하여 title 가져오기
-	 * - totalRevenue, totalPlatformFee 계산 포함
-	 * 
-	 * 수수료 계산 정책: 버림 처리 (FLOOR 사용)
-	 * - totalRevenue = totalAmount / (1 - feeRate/100) 계산 시 버림
-	 * - Batch의 RoundingMode.DOWN과 일치하도록 통일
+	 * - 금액 계산(FLOOR 버림)은 집계 시점에 SettlementRollupJdbcRepository에서 수행
 	 */
 	@Query(value = """
-		SELECT 
-			s.content_id AS contentId,
+		SELECT
+			r.content_id AS contentId,
 			c.title AS title,
-			COUNT(*) AS settlementCount,
-			COALESCE(SUM(s.total_amount), 0) AS totalPayout,
-			COALESCE(SUM(
-				CASE 
-					WHEN s.fee_rate <= 0 OR s.fee_rate >= 100 THEN s.total_amount
-					ELSE FLOOR(s.total_amount * 100.0 / (100 - s.fee_rate))
-				END
-			), 0) AS totalRevenue,
-			COALESCE(SUM(
-				CASE 
-					WHEN s.fee_rate <= 0 OR s.fee_rate >= 100 THEN 0
-					ELSE FLOOR(s.total_amount * 100.0 / (100 - s.fee_rate)) - s.total_amount
-				END
-			), 0) AS totalPlatformFee,
-			COALESCE(MAX(s.settled_at), NULL) AS lastSettledAt
-		FROM settlements s
-		INNER JOIN contents c ON c.id = s.content_id
-		WHERE s.creator_id = :creatorId
-		GROUP BY s.content_id, c.title
+			r.settlement_count AS settlementCount,
+			r.total_payout AS totalPayout,
+			r.total_revenue AS totalRevenue,
+			r.total_platform_fee AS totalPlatformFee,
+			r.last_settled_at AS lastSettledAt
+		FROM settlement_content_rollups r
+		INNER JOIN contents c ON c.id = r.content_id
+		WHERE r.creator_id = :creatorId
 		""", nativeQuery = true)
 	List<ContentSettlementSummaryProjection> findContentSettlementSummariesByCreatorId(
 		@Param("creatorId") Long creatorId);
 
 	/**
 	 * 특정 콘텐츠의 기간별 정산 내역 조회 (DAY 단위)
-	 * 수수료 계산 정책: 버림 처리 (FLOOR 사용)
+	 * settlement_daily_rollups의 (content_id, settle_date) 유니크 인덱스 구간 조회
 	 */
 	@Query(value = """
-		SELECT 
-		    CAST(DATE(s.settled_at) AS DATETIME) AS periodStart,
-		    COUNT(*) AS orderCount,
-		    COALESCE(SUM(
-		        CASE 
-		            WHEN s.fee_rate <= 0 OR s.fee_rate >= 100 THEN s.total_amount
-		            ELSE FLOOR(s.total_amount * 100.0 / (100 - s.fee_rate))
-		        END
-		    ), 0) AS totalRevenue,
-		    COALESCE(SUM(
-		        CASE 
-		            WHEN s.fee_rate <= 0 OR s.fee_rate >= 100 THEN 0
-		            ELSE FLOOR(s.total_amount * 100.0 / (100 - s.fee_rate)) - s.total_amount
-		        END
-		    ), 0) AS totalPlatformFee,
-		    COALESCE(SUM(s.total_amount), 0) AS totalPayout,
-		    MAX(s.settled_at) AS latestSettledAt
-		FROM settlements s
-		WHERE s.content_id = :contentId
-		  AND s.settled_at >= :from
-		  AND s.settled_at < :to
-		GROUP BY CAST(DATE(s.settled_at) AS DATETIME)
-		ORDER BY periodStart ASC
+		SELECT
+		    CAST(r.settle_date AS DATETIME) AS periodStart,
+		    r.settlement_count AS orderCount,
+		    r.total_revenue AS totalRevenue,
+		    r.total_platform_fee AS totalPlatformFee,
+		    r.total_payout AS totalPayout,
+		    r.last_settled_at AS latestSettledAt
+		FROM settlement_daily_rollups r
+		WHERE r.content_id = :contentId
+		  AND r.settle_date >= :from
+		  AND r.settle_date < :to
+		ORDER BY r.settle_date ASC
 		""", nativeQuery = true)
 	List<ContentSettlementPeriodProjection> findContentSettlementPeriodsByDay(
 		@Param("contentId") Long contentId,
-		@Param("from") LocalDateTime from,
-		@Param("to") LocalDateTime to);
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to);
 }
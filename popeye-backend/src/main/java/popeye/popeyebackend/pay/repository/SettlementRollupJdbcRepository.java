@@ -0,0 +1,153 @@
+package popeye.popeyebackend.pay.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import popeye.popeyebackend.batch.settlement.dto.SettlementItemDto;
+
+/**
+ * 정산 집계 테이블(settlement_daily_rollups, settlement_content_rollups) 갱신용 JDBC 리포지토리
+ * 정산 1건이 저장될 때마다 해당 (content, 정산일) / (content) 행에 건수와 금액을 더함
+ *
+ * 수수료 계산 정책: 버림 처리 (기존 조회 쿼리의 FLOOR 계산과 동일)
+ * - totalRevenue = totalAmount * 100 / (100 - feeRate) 버림
+ * - totalPlatformFee = totalRevenue - totalAmount
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementRollupJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String UPSERT_DAILY_SQL = """
+		INSERT INTO settlement_daily_rollups
+		    (creator_id, content_id, settle_date, settlement_count,
+		     total_revenue, total_platform_fee, total_payout, last_settled_at)
+		VALUES (?, ?, ?, 1, ?, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE
+		    settlement_count = settlement_count + 1,
+		    total_revenue = total_revenue + VALUES(total_revenue),
+		    total_platform_fee = total_platform_fee + VALUES(total_platform_fee),
+		    total_payout = total_payout + VALUES(total_payout),
+		    last_settled_at = GREATEST(last_settled_at, VALUES(last_settled_at))
+		""";
+
+	private static final String UPSERT_CONTENT_SQL = """
+		INSERT INTO settlement_content_rollups
+		    (creator_id, content_id, settlement_count,
+		     total_revenue, total_platform_fee, total_payout, last_settled_at)
+		VALUES (?, ?, 1, ?, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE
+		    settlement_count = settlement_count + 1,
+		    total_revenue = total_revenue + VALUES(total_revenue),
+		    total_platform_fee = total_platform_fee + VALUES(total_platform_fee),
+		    total_payout = total_payout + VALUES(total_payout),
+		    last_settled_at = GREATEST(last_settled_at, VALUES(last_settled_at))
+		""";
+
+	private static final String REVENUE_EXPR = """
+		CASE
+		    WHEN s.fee_rate <= 0 OR s.fee_rate >= 100 THEN s.total_amount
+		    ELSE FLOOR(s.total_amount * 100.0 / (100 - s.fee_rate))
+		END""";
+
+	// settlements 전체로 집계를 다시 계산해 덮어씀 (집계 테이블 도입 이전 데이터 반영용, 재실행 가능)
+	private static final String REBUILD_DAILY_SQL = """
+		INSERT INTO settlement_daily_rollups
+		    (creator_id, content_id, settle_date, settlement_count,
+		     total_revenue, total_platform_fee, total_payout, last_settled_at)
+		SELECT s.creator_id, s.content_id, DATE(s.settled_at), COUNT(*),
+		       SUM(%1$s), SUM(%1$s - s.total_amount), SUM(s.total_amount), MAX(s.settled_at)
+		FROM settlements s
+		GROUP BY s.creator_id, s.content_id, DATE(s.settled_at)
+		ON DUPLICATE KEY UPDATE
+		    settlement_count = VALUES(settlement_count),
+		    total_revenue = VALUES(total_revenue),
+		    total_platform_fee = VALUES(total_platform_fee),
+		    total_payout = VALUES(total_payout),
+		    last_settled_at = VALUES(last_settled_at)
+		""".formatted(REVENUE_EXPR);
+
+	private static final String REBUILD_CONTENT_SQL = """
+		INSERT INTO settlement_content_rollups
+		    (creator_id, content_id, settlement_count,
+		     total_revenue, total_platform_fee, total_payout, last_settled_at)
+		SELECT s.creator_id, s.content_id, COUNT(*),
+		       SUM(%1$s), SUM(%1$s - s.total_amount), SUM(s.total_amount), MAX(s.settled_at)
+		FROM settlements s
+		GROUP BY s.creator_id, s.content_id
+		ON DUPLICATE KEY UPDATE
+		    settlement_count = VALUES(settlement_count),
+		    total_revenue = VALUES(total_revenue),
+		    total_platform_fee = VALUES(total_platform_fee),
+		    total_payout = VALUES(total_payout),
+		    last_settled_at = VALUES(last_settled_at)
+		""".formatted(REVENUE_EXPR);
+
+	private static final String NEEDS_REBUILD_SQL = """
+		SELECT EXISTS (SELECT 1 FROM settlements)
+		   AND NOT EXISTS (SELECT 1 FROM settlement_content_rollups)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 같은 settledAt으로 저장된 정산 건들을 집계 테이블에 누적
+	 * 파티션은 creator 구간으로 나뉘므로 한 Job 안에서는 같은 content 행을 동시에 갱신하지 않음
+	 * 서로 다른 날짜의 정산 Job은 같은 content 행을 갱신할 수 있으므로
+	 * 항상 contentId 오름차순으로 갱신하여 잠금 순서를 맞춤 (교착 시에는 Step이 chunk를 재시도)
+	 */
+	public void accumulate(List<? extends SettlementItemDto> items, LocalDateTime settledAt) {
+		if (items.isEmpty()) {
+			return;
+		}
+		Timestamp settledAtTs = Timestamp.valueOf(settledAt);
+		Date settleDate = Date.valueOf(settledAt.toLocalDate());
+		List<? extends SettlementItemDto> ordered = items.stream()
+			.sorted(Comparator.comparing(SettlementItemDto::contentId))
+			.toList();
+
+		jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, ordered, BATCH_SIZE, (ps, item) -> {
+			long revenue = revenueOf(item.netAmount(), item.feeRate());
+			ps.setLong(1, item.creatorId());
+			ps.setLong(2, item.contentId());
+			ps.setDate(3, settleDate);
+			ps.setLong(4, revenue);
+			ps.setLong(5, revenue - item.netAmount());
+			ps.setLong(6, item.netAmount());
+			ps.setTimestamp(7, settledAtTs);
+		});
+		jdbcTemplate.batchUpdate(UPSERT_CONTENT_SQL, ordered, BATCH_SIZE, (ps, item) -> {
+			long revenue = revenueOf(item.netAmount(), item.feeRate());
+			ps.setLong(1, item.creatorId());
+			ps.setLong(2, item.contentId());
+			ps.setLong(3, revenue);
+			ps.setLong(4, revenue - item.netAmount());
+			ps.setLong(5, item.netAmount());
+			ps.setTimestamp(6, settledAtTs);
+		});
+	}
+
+	public boolean needsRebuild() {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(NEEDS_REBUILD_SQL, Boolean.class));
+	}
+
+	public void rebuildFromSettlements() {
+		jdbcTemplate.update(REBUILD_DAILY_SQL);
+		jdbcTemplate.update(REBUILD_CONTENT_SQL);
+	}
+
+	private static long revenueOf(long totalAmount, int feeRate) {
+		if (feeRate <= 0 || feeRate >= 100) {
+			return totalAmount;
+		}
+		return Math.floorDiv(totalAmount * 100, 100 - feeRate);
+	}
+}
@@ -3,16 +3,31 @@ package popeye.popeyebackend.pay.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import popeye.popeyebackend.pay.domain.CreditHistory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import popeye.popeyebackend.pay.dto.credit.CreditHistoryEntry;
 import popeye.popeyebackend.pay.enums.CreditType;
 import popeye.popeyebackend.pay.enums.ReasonType;
-import popeye.popeyebackend.pay.repository.CreditHistoryRepository;
+import popeye.popeyebackend.pay.repository.CreditHistoryJdbcRepository;
 import popeye.popeyebackend.user.domain.User;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크레딧 변동 내역 기록
+ * 트랜잭션 안에서 기록된 내역은 버퍼에 모았다가 커밋 직전에 JDBC batch insert로 한 번에 저장
+ * (롤백되면 버퍼도 함께 폐기)
+ */
 @Service
 @RequiredArgsConstructor
 public class CreditHistoryService {
-    private final CreditHistoryRepository creditHistoryRepository;
+
+    // 트랜잭션별 버퍼를 바인딩하는 리소스 키
+    private static final Object BUFFER_KEY = new Object();
+
+    private final CreditHistoryJdbcRepository creditHistoryJdbcRepository;
 
     @Transactional
     public void record(User user,
@@ -21,14 +36,50 @@ public class CreditHistoryService {
                        int delta,
                        Long orderId,
                        Long paymentId){
-        CreditHistory history = CreditHistory.builder()
-                .user(user)
-                .creditType(creditType)
-                .reasonType(reasonType)
-                .delta(delta)
-                .orderId(orderId)
-                .paymentId(paymentId)
-                .build();
-        creditHistoryRepository.save(history);
+        buffer().add(new CreditHistoryEntry(
+                user.getId(),
+                creditType,
+                reasonType,
+                delta,
+                orderId,
+                paymentId,
+                LocalDateTime.now()
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CreditHistoryEntry> buffer() {
+        List<CreditHistoryEntry> buffer =
+                (List<CreditHistoryEntry>) TransactionSynchronizationManager.getResource(BUFFER_KEY);
+        if (buffer != null) {
+            return buffer;
+        }
+
+        List<CreditHistoryEntry> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(BUFFER_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // REQUIRES_NEW 등으로 트랜잭션이 중단되면 버퍼도 함께 분리
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(BUFFER_KEY);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(BUFFER_KEY, created);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                creditHistoryJdbcRepository.batchInsert(created);
+                created.clear();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BUFFER_KEY);
+            }
+        });
+        return created;
     }
 }
@@ -0,0 +1,72 @@
+package popeye.popeyebackend.pay.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import popeye.popeyebackend.global.exception.ApiException;
+import popeye.popeyebackend.global.exception.ErrorCode;
+import popeye.popeyebackend.pay.dto.credit.CreditBucket;
+import popeye.popeyebackend.pay.dto.credit.CreditDeduction;
+import popeye.popeyebackend.pay.dto.credit.WalletDeductionResult;
+import popeye.popeyebackend.pay.repository.CreditJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 크레딧 지갑 차감
+ * 사용 가능한 크레딧 전체를 읽지 않고, 금액을 채우는 데 필요한 버킷만 조회하여 batch update로 차감
+ * 차감 순서: FREE(만료 임박 순) -> PAID(결제 순), 각 유형의 남은 버킷만 인덱스 순서대로 keyset 페이지 단위로 읽음
+ */
+@Service
+@RequiredArgsConstructor
+public class CreditWalletService {
+
+    private static final int BUCKET_PAGE_SIZE = 20;
+
+    private final CreditJdbcRepository creditJdbcRepository;
+
+    @Transactional
+    public WalletDeductionResult deduct(Long userId, int priceCredits) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CreditDeduction> deductions = new ArrayList<>();
+
+        int usedFree = take(deductions, priceCredits,
+                (after, limit) -> creditJdbcRepository.findFreeBuckets(userId, now, after, limit));
+        int usedPaid = take(deductions, priceCredits - usedFree,
+                (after, limit) -> creditJdbcRepository.findPaidBuckets(userId, after, limit));
+
+        if (usedFree + usedPaid != priceCredits) {
+            throw new ApiException(ErrorCode.NOT_ENOUGH_CREDIT);
+        }
+
+        // 조회 이후 다른 요청이 먼저 차감한 경우 -> 전체 롤백
+        if (!creditJdbcRepository.deduct(deductions)) {
+            throw new ApiException(ErrorCode.NOT_ENOUGH_CREDIT);
+        }
+
+        return new WalletDeductionResult(usedFree, usedPaid);
+    }
+
+    // 정렬된 버킷을 앞에서부터 amount만큼 차감 대상으로 추가, 실제로 채운 양을 반환
+    // pageLoader: (직전 페이지 마지막 버킷, 페이지 크기) -> 다음 페이지
+    private int take(List<CreditDeduction> deductions, int amount,
+                     BiFunction<CreditBucket, Integer, List<CreditBucket>> pageLoader) {
+        int taken = 0;
+        CreditBucket last = null;
+        while (taken < amount) {
+            List<CreditBucket> page = pageLoader.apply(last, BUCKET_PAGE_SIZE);
+            for (CreditBucket bucket : page) {
+                if (taken == amount) break;
+                int use = Math.min(bucket.amount(), amount - taken);
+                deductions.add(new CreditDeduction(bucket.id(), use));
+                taken += use;
+            }
+            if (page.size() < BUCKET_PAGE_SIZE) break;
+            last = page.get(page.size() - 1);
+        }
+        return taken;
+    }
+}
@@ -5,37 +5,40 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.enums.TrendingEvent;
 import popeye.popeyebackend.content.repository.ContentRepository;
+import popeye.popeyebackend.content.service.ContentTrendingService;
 import popeye.popeyebackend.global.exception.ErrorCode;
-import popeye.popeyebackend.pay.domain.Credit;
 import popeye.popeyebackend.pay.domain.Order;
+import popeye.popeyebackend.pay.dto.credit.WalletDeductionResult;
 import popeye.popeyebackend.pay.enums.CreditType;
 import popeye.popeyebackend.pay.enums.OrderStatus;
 import popeye.popeyebackend.pay.enums.ReasonType;
 import popeye.popeyebackend.global.exception.ApiException;
-import popeye.popeyebackend.pay.repository.CreditRepository;
 import popeye.popeyebackend.pay.repository.OrderRepository;
 import popeye.popeyebackend.user.domain.User;
 import popeye.popeyebackend.user.service.UserService;
 
-import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
     private final ContentRepository contentRepository;
-    private final CreditRepository creditRepository;
+    private final CreditWalletService creditWalletService;
     private final OrderRepository orderRepository;
     private final CreditHistoryService creditHistoryService;
     private final UserService userService;
+    private final PurchaseEntitlementService purchaseEntitlementService;
+    private final ContentTrendingService contentTrendingService;
 
     @Transactional
     public Long purchase(Long userId, Long contentId){
-        Content content = contentRepository.findById(contentId).orElseThrow(() -> new ApiException(ErrorCode.INVALID_REQUEST));
+        // 같은 사용자의 지갑 변경을 직렬화 (사용자 row 잠금, 다른 사용자와는 무관)
+        // 반드시 트랜잭션의 첫 쿼리여야 함: REPEATABLE READ의 스냅샷은 첫 일반 SELECT 시점에 고정되므로
+        // 잠금 전에 다른 조회를 하면 이후 버킷 조회가 잠금 이전(다른 구매 차감 전) 지갑을 보게 됨
+        User user = userService.getUserForUpdate(userId);
 
-        User user = userService.getUser(userId);
+        Content content = contentRepository.findById(contentId).orElseThrow(() -> new ApiException(ErrorCode.INVALID_REQUEST));
 
         // 중복 구매 방지
         if (orderRepository.existsByUser_IdAndContent_Id(user.getId(), contentId)){
@@ -49,52 +52,10 @@ public class OrderService {
             return orderId;
         }
 
-        //사용 가능한 credit 조회
-        LocalDateTime now = LocalDateTime.now();
-        List<Credit> usable = creditRepository.findUsableCredits(user.getId(), now);
-
-        int total = usable.stream().mapToInt(Credit::getAmount).sum();
-        if (total < priceCredits){
-            throw new ApiException(ErrorCode.NOT_ENOUGH_CREDIT);
-        }
-
-
-        int remain = priceCredits;
-
-        int usedFree = 0;
-        int usedPaid = 0;
-
-        // FREE -> PAID 순으로 차감
-        List<Credit> freeCredits = usable.stream()
-                .filter(c -> c.getCreditType() == CreditType.FREE)
-                .sorted(Comparator.comparing(Credit::getExpiredAt, Comparator.naturalOrder()))
-                .toList();
-
-        for (Credit c : freeCredits){
-            if (remain == 0) break;
-            int use = Math.min(c.getAmount(), remain);
-            c.deduct(use);
-            remain -= use;
-            usedFree += use;
-        }
-
-        if (remain > 0) {
-            List<Credit> paidCredits = usable.stream()
-                    .filter(c -> c.getCreditType() == CreditType.PAID)
-                    .sorted(Comparator.comparing(Credit::getPaidAt))
-                    .toList();
-
-            for (Credit c : paidCredits){
-                if (remain == 0) break;
-                int use = Math.min(c.getAmount(), remain);
-                c.deduct(use);
-                remain -= use;
-                usedPaid += use;
-            }
-        }
-        if (remain != 0) {
-            throw new ApiException(ErrorCode.NOT_ENOUGH_CREDIT);
-        }
+        // 필요한 크레딧 버킷만 조회하여 FREE -> PAID 순으로 차감
+        WalletDeductionResult deduction = creditWalletService.deduct(user.getId(), priceCredits);
+        int usedFree = deduction.usedFree();
+        int usedPaid = deduction.usedPaid();
 
         Long orderId = saveOrder(user, content, priceCredits, usedFree, usedPaid);
 
@@ -139,6 +100,8 @@ public class OrderService {
                     .quantity(1)
                     .build();
             orderRepository.save(order);
+            purchaseEntitlementService.grant(user.getId(), content.getId());
+            contentTrendingService.record(content.getId(), TrendingEvent.PURCHASE);
             return order.getId();
         }catch (DataIntegrityViolationException e){
             throw new ApiException(ErrorCode.INVALID_REQUEST);
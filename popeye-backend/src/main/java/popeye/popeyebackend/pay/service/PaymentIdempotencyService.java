@@ -0,0 +1,111 @@
+package popeye.popeyebackend.pay.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import popeye.popeyebackend.global.exception.ApiException;
+import popeye.popeyebackend.global.exception.ErrorCode;
+import popeye.popeyebackend.pay.enums.IdempotencyStatus;
+import popeye.popeyebackend.pay.toss.TossPaymentsProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제 승인/환불 멱등성 키 관리 (Redis)
+ * - 첫 요청만 IN_FLIGHT로 키를 선점하고 실제 처리를 수행
+ * - 처리 중 중복 요청: 대기 없이 PAYMENT_IN_PROGRESS(202) 응답
+ * - 처리 완료 후 중복 요청: 다시 처리하지 않고 성공 응답
+ * - 처리 실패 시 자신이 선점한 키만 삭제하여 클라이언트 재시도 허용
+ *   (PAYMENT_IN_PROGRESS는 PG 결과가 미확정이므로 키 유지, 복구 스케줄러가 정리)
+ * - IN_FLIGHT TTL은 Toss 호출 최악 응답 시간(재시도 포함)보다 길게 잡아 처리 중 만료되지 않도록 함
+ *
+ * 트랜잭션 밖(컨트롤러)에서 호출해야 DB 커넥션을 잡지 않은 채로 중복 요청을 걸러낼 수 있음
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+
+    private static final String CONFIRM_PREFIX = "idempotency:payment:confirm:";
+    private static final String REFUND_PREFIX = "idempotency:payment:refund:";
+    // Toss 호출 전후 DB 처리(상태 전이, 크레딧 반영) 여유분
+    private static final Duration IN_FLIGHT_MARGIN = Duration.ofSeconds(30);
+    private static final Duration COMPLETED_TTL = Duration.ofDays(1);
+
+    // 값이 자신의 토큰일 때만 삭제 (TTL 만료 후 다른 요청이 선점한 키를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration confirmInFlightTtl;
+    private final Duration refundInFlightTtl;
+
+    public PaymentIdempotencyService(StringRedisTemplate redisTemplate, TossPaymentsProperties tossProps) {
+        this.redisTemplate = redisTemplate;
+        // 처리 중인 서버가 죽어도 키가 영구히 남지 않도록 하되, 정상 처리 중에는 만료되지 않는 길이
+        this.confirmInFlightTtl = tossProps.worstCaseLatency(tossProps.getConfirmReadTimeout()).plus(IN_FLIGHT_MARGIN);
+        this.refundInFlightTtl = tossProps.worstCaseLatency(tossProps.getCancelReadTimeout()).plus(IN_FLIGHT_MARGIN);
+    }
+
+    public void confirm(String pgOrderId, Runnable action) {
+        execute(CONFIRM_PREFIX + pgOrderId, confirmInFlightTtl, action);
+    }
+
+    // 키에 사용자 ID를 포함하여 다른 사용자가 완료된 환불 키로 성공 응답을 받지 못하게 함
+    public void refund(Long paymentId, Long userId, Runnable action) {
+        execute(REFUND_PREFIX + userId + ":" + paymentId, refundInFlightTtl, action);
+    }
+
+    private void execute(String key, Duration inFlightTtl, Runnable action) {
+        String token = IdempotencyStatus.IN_FLIGHT.name() + ":" + UUID.randomUUID();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, token, inFlightTtl);
+        } catch (Exception e) {
+            // Redis 장애 시에도 결제는 진행 (Payment 상태/Credit 존재 여부로 DB에서 중복 방어)
+            log.warn("멱등성 키 선점 실패, 키 없이 처리: key={}", key, e);
+            action.run();
+            return;
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            String status = redisTemplate.opsForValue().get(key);
+            if (IdempotencyStatus.COMPLETED.name().equals(status)) {
+                log.info("이미 처리된 결제 요청: key={}", key);
+                return;
+            }
+            throw new ApiException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+
+        try {
+            action.run();
+        } catch (ApiException e) {
+            // 처리 중(PG 결과 미확정)이면 키를 유지해 중복 승인/취소 호출을 막음
+            if (e.getErrorCode() != ErrorCode.PAYMENT_IN_PROGRESS) {
+                release(key, token);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            release(key, token);
+            throw e;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(key, IdempotencyStatus.COMPLETED.name(), COMPLETED_TTL);
+        } catch (Exception e) {
+            log.warn("멱등성 키 완료 처리 실패: key={}", key, e);
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            log.warn("멱등성 키 삭제 실패: key={}", key, e);
+        }
+    }
+}
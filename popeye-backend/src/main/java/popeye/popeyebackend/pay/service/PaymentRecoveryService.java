@@ -0,0 +1,85 @@
+package popeye.popeyebackend.pay.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import popeye.popeyebackend.global.exception.ApiException;
+import popeye.popeyebackend.global.exception.ErrorCode;
+import popeye.popeyebackend.pay.domain.Payment;
+import popeye.popeyebackend.pay.enums.PaymentType;
+import popeye.popeyebackend.pay.repository.PaymentRepository;
+import popeye.popeyebackend.pay.toss.TossPaymentsClient;
+import popeye.popeyebackend.pay.toss.dto.confirm.TossConfirmResponseDto;
+
+/**
+ * PG 호출 후 결과가 반영되지 않은 결제 복구
+ * (서버 종료, 타임아웃 등으로 PENDING/CANCEL_PENDING에 남은 결제를 Toss 조회 결과로 확정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentRecoveryService {
+
+    private static final String TOSS_DONE = "DONE";
+    private static final String TOSS_CANCELED = "CANCELED";
+    private static final String TOSS_ABORTED = "ABORTED";
+    private static final String TOSS_EXPIRED = "EXPIRED";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentStateService paymentStateService;
+    private final TossPaymentsClient tossPaymentsClient;
+
+    public void recoverConfirm(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new ApiException(ErrorCode.PAYMENT_NOT_FOUND));
+        if (payment.getPaymentType() != PaymentType.PENDING) {
+            return;
+        }
+
+        TossConfirmResponseDto tossRes;
+        try {
+            tossRes = tossPaymentsClient.getByOrderId(payment.getPgOrderId());
+        } catch (HttpClientErrorException.NotFound e) {
+            // Toss에 승인 기록이 없음 -> 승인 요청이 도달하지 않음
+            paymentStateService.failConfirm(paymentId, "RECOVERY_NOT_FOUND");
+            return;
+        }
+
+        String status = tossRes != null ? tossRes.getStatus() : null;
+        if (TOSS_DONE.equals(status)
+                && tossRes.getTotalAmount() != null
+                && tossRes.getTotalAmount() == payment.getAmount()) {
+            String receiptUrl = (tossRes.getReceipt() != null) ? tossRes.getReceipt().getUrl() : null;
+            paymentStateService.completeConfirm(paymentId, tossRes.getPaymentKey(), receiptUrl);
+            log.info("PENDING 결제 승인 복구: paymentId={}", paymentId);
+        } else if (TOSS_ABORTED.equals(status) || TOSS_EXPIRED.equals(status)) {
+            paymentStateService.failConfirm(paymentId, "RECOVERY_" + status);
+            log.info("PENDING 결제 실패 처리: paymentId={}, tossStatus={}", paymentId, status);
+        } else {
+            // 아직 Toss에서 처리 중이거나 금액 불일치 -> 다음 주기에 재확인 (불일치는 수동 확인)
+            log.warn("PENDING 결제 확정 보류: paymentId={}, tossStatus={}", paymentId, status);
+        }
+    }
+
+    public void recoverRefund(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new ApiException(ErrorCode.PAYMENT_NOT_FOUND));
+        if (payment.getPaymentType() != PaymentType.CANCEL_PENDING) {
+            return;
+        }
+
+        TossConfirmResponseDto tossRes = tossPaymentsClient.getByPaymentKey(payment.getPaymentKey());
+        String status = tossRes != null ? tossRes.getStatus() : null;
+        if (TOSS_CANCELED.equals(status)) {
+            paymentStateService.completeRefund(paymentId);
+            log.info("CANCEL_PENDING 결제 취소 복구: paymentId={}", paymentId);
+        } else if (TOSS_DONE.equals(status)) {
+            // 취소 요청이 반영되지 않음 -> 보류한 크레딧 복구
+            paymentStateService.failRefund(paymentId, "RECOVERY_CANCEL_NOT_APPLIED");
+            log.info("CANCEL_PENDING 결제 취소 미반영, DONE 복구: paymentId={}", paymentId);
+        } else {
+            log.warn("CANCEL_PENDING 결제 확정 보류: paymentId={}, tossStatus={}", paymentId, status);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package popeye.popeyebackend.pay.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import popeye.popeyebackend.global.exception.ApiException;
+import popeye.popeyebackend.global.exception.ErrorCode;
+import popeye.popeyebackend.pay.domain.Credit;
+import popeye.popeyebackend.pay.domain.Payment;
+import popeye.popeyebackend.pay.dto.payment.PaymentConfirmTicket;
+import popeye.popeyebackend.pay.enums.CreditType;
+import popeye.popeyebackend.pay.enums.PaymentType;
+import popeye.popeyebackend.pay.enums.ReasonType;
+import popeye.popeyebackend.pay.repository.CreditRepository;
+import popeye.popeyebackend.pay.repository.PaymentRepository;
+import popeye.popeyebackend.user.domain.User;
+import popeye.popeyebackend.user.service.UserService;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 전이 (짧은 트랜잭션 단위)
+ * PG(Toss) 호출은 트랜잭션 밖에서 수행하고, 호출 전/후 상태 변경만 여기서 처리
+ *
+ * 승인: CREATED -> PENDING -> DONE / ABORTED
+ * 환불: DONE -> CANCEL_PENDING -> CANCELED / DONE
+ *
+ * 모든 전이는 결제 row를 잠근 뒤(FOR UPDATE) 상태를 확인하므로 같은 전이가 두 번 반영되지 않음
+ * 잠금 순서는 항상 결제 -> 사용자
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentStateService {
+
+    private final PaymentRepository paymentRepository;
+    private final CreditRepository creditRepository;
+    private final CreditHistoryService creditHistoryService;
+    private final UserService userService;
+
+    /**
+     * 승인 요청 검증 후 PENDING 전환
+     * 검증 실패로 인한 ABORTED 전환은 예외와 함께 커밋되어야 하므로 ApiException은 롤백하지 않음
+     *
+     * @return 이미 승인된 결제면 null
+     */
+    @Transactional(noRollbackFor = ApiException.class)
+    public PaymentConfirmTicket beginConfirm(String pgOrderId, String paymentKey, Integer amount) {
+        Payment payment = paymentRepository.findByPgOrderIdForUpdate(pgOrderId)
+                .orElseThrow(() -> {
+                    log.error("Payment를 찾을 수 없음: pgOrderId={}", pgOrderId);
+                    return new ApiException(ErrorCode.PAYMENT_NOT_FOUND);
+                });
+
+        log.info("Payment 조회 성공: paymentId={}, paymentType={}, amount={}",
+                payment.getId(), payment.getPaymentType(), payment.getAmount());
+
+        // 멱등성1: 이미 승인(DONE)된 결제면 중복 처리 방지
+        if (payment.getPaymentType() == PaymentType.DONE) {
+            log.info("이미 승인된 결제: paymentId={}", payment.getId());
+            return null;
+        }
+
+        // 다른 요청이 PG 승인 호출 중
+        if (payment.getPaymentType() == PaymentType.PENDING) {
+            throw new ApiException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+
+        // 멱등성2: 이미 해당 payment로 credit이 생성되어 있으면 중복 생성 방지
+        if (creditRepository.existsByPayment_Id(payment.getId())) {
+            log.info("이미 Credit이 생성된 결제: paymentId={}", payment.getId());
+            return null;
+        }
+
+        if (payment.getPaymentType() != PaymentType.CREATED) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+
+        // amount가 전달되지 않으면 서버에 저장된 값 사용
+        int finalAmount = (amount != null) ? amount : payment.getAmount();
+
+        // 서버 저장값과 Client 전달 amount 1차 검증(변조 방지)
+        if (payment.getAmount() != finalAmount) {
+            log.error("금액 불일치: server={}, client={}", payment.getAmount(), finalAmount);
+            payment.abort("AMOUNT_MISMATCH: server=" + payment.getAmount() + ", client=" + finalAmount);
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+
+        payment.markPending(paymentKey);
+        return new PaymentConfirmTicket(payment.getId(), pgOrderId, paymentKey, finalAmount);
+    }
+
+    /**
+     * 승인 성공 반영:
+     * - Payment: PENDING -> DONE
+     * - Credit(PAID): Payment 1건당 1 row 생성 (amount=creditAmount)
+     */
+    @Transactional
+    public void completeConfirm(Long paymentId, String paymentKey, String receiptUrl) {
+        Payment payment = getPayment(paymentId);
+        // 다른 요청/복구 스케줄러가 먼저 반영한 경우 (DONE 또는 ABORTED)
+        if (payment.getPaymentType() != PaymentType.PENDING) {
+            return;
+        }
+
+        // 지갑 변경은 사용자 row 잠금 후 수행 (구매와 직렬화)
+        User user = userService.getUserForUpdate(payment.getUser().getId());
+
+        payment.approve(paymentKey, receiptUrl);
+        user.increasePaidCredit(payment.getCreditAmount());
+
+        Credit credit = Credit.builder()
+                .user(user)
+                .payment(payment)
+                .creditType(CreditType.PAID)
+                .amount(payment.getCreditAmount())
+                .paidAt(LocalDateTime.now())
+                .expiredAt(null)
+                .build();
+        creditRepository.save(credit);
+
+        creditHistoryService.record(
+                user,
+                CreditType.PAID,
+                ReasonType.CHARGE,
+                +payment.getCreditAmount(),
+                null,
+                payment.getId()
+        );
+    }
+
+    /**
+     * 승인 실패 반영: PENDING -> ABORTED
+     */
+    @Transactional
+    public void failConfirm(Long paymentId, String reason) {
+        Payment payment = getPayment(paymentId);
+        if (payment.getPaymentType() != PaymentType.PENDING) {
+            return;
+        }
+        payment.abort(reason);
+    }
+
+    /**
+     * 환불 요청 검증 후 CANCEL_PENDING 전환
+     * PG 취소 결과가 나오기 전 크레딧이 사용되지 않도록 Credit/잔액을 먼저 보류(차감)
+     *
+     * @return PG 취소에 사용할 paymentKey
+     */
+    @Transactional
+    public String beginRefund(Long paymentId, Long userId) {
+        Payment payment = getPayment(paymentId);
+
+        // 권한 체크
+        if (!payment.getUser().getId().equals(userId)) {
+            throw new ApiException(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+
+        // 다른 요청이 PG 취소 호출 중
+        if (payment.getPaymentType() == PaymentType.CANCEL_PENDING) {
+            throw new ApiException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+
+        // 환불 가능한 상태 검증
+        if (payment.getPaymentType() != PaymentType.DONE) {
+            throw new ApiException(ErrorCode.PAYMENT_NOT_FOUND);
+        }
+
+        // 데이터 무결성 체크
+        if (payment.getPaymentKey() == null) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+
+        User user = userService.getUserForUpdate(userId);
+
+        // 크레딧 상태 체크
+        Credit credit = creditRepository.findByPayment_Id(paymentId)
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_REQUEST));
+
+        // 크레딧 수량이 결제 당시와 다르다면 이미 사용한 것으로 간주
+        if (credit.getAmount() != payment.getCreditAmount()) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+
+        // 7일 이내 환불 가능 여부 체크 (7일 이후는 수동 처리)
+        LocalDateTime deadline = credit.getPaidAt().plusDays(7);
+        if (LocalDateTime.now().isAfter(deadline)) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST);
+        }
+
+        credit.zeroize();
+        user.decreasePaidCredit(payment.getCreditAmount());
+        payment.markCancelPending();
+        return payment.getPaymentKey();
+    }
+
+    /**
+     * 환불 성공 반영: CANCEL_PENDING -> CANCELED
+     */
+    @Transactional
+    public void completeRefund(Long paymentId) {
+        Payment payment = getPayment(paymentId);
+        if (payment.getPaymentType() != PaymentType.CANCEL_PENDING) {
+            return;
+        }
+        payment.cancel();
+
+        creditHistoryService.record(
+                payment.getUser(),
+                CreditType.PAID,
+                ReasonType.REFUND,
+                -payment.getCreditAmount(),
+                null,
+                payment.getId()
+        );
+    }
+
+    /**
+     * 환불 실패 반영: CANCEL_PENDING -> DONE, 보류한 크레딧 복구
+     */
+    @Transactional
+    public void failRefund(Long paymentId, String reason) {
+        Payment payment = getPayment(paymentId);
+        if (payment.getPaymentType() != PaymentType.CANCEL_PENDING) {
+            return;
+        }
+
+        User user = userService.getUserForUpdate(payment.getUser().getId());
+        Credit credit = creditRepository.findByPayment_Id(paymentId)
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_REQUEST));
+
+        credit.restore(payment.getCreditAmount());
+        user.increasePaidCredit(payment.getCreditAmount());
+        payment.revertCancel(reason);
+    }
+
+    // 결제 row 잠금 후 조회 (잠금 이후의 최신 상태로 전이 여부를 판단)
+    private Payment getPayment(Long paymentId) {
+        return paymentRepository.findByIdForUpdate(paymentId)
+                .orElseThrow(() -> new ApiException(ErrorCode.PAYMENT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,130 @@
+package popeye.popeyebackend.pay.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import popeye.popeyebackend.global.util.TransactionUtil;
+import popeye.popeyebackend.pay.enums.OrderStatus;
+import popeye.popeyebackend.pay.repository.OrderRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구매 권한(열람 가능 콘텐츠) 조회
+ * 사용자별 구매 완료 콘텐츠 ID를 Redis Set으로 보관하여 Order 엔티티 로딩 없이 O(1)로 확인
+ * 적재 완료 여부는 키 존재가 아닌 EMPTY_MARKER 포함 여부로 판단
+ * 마커가 없으면 orders에서 ID만 조회해 마커와 함께 한 번에 채우고, 구매 시 커밋 이후 항상 Set에 추가
+ * (적재와 추가가 어떤 순서로 실행되어도 SADD 합집합이므로 구매 내역이 누락되지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseEntitlementService {
+
+    private static final String PREFIX = "entitlement:user:";
+    // DB에서 적재를 마친 Set임을 표시하는 값 (콘텐츠 ID로 쓰이지 않음)
+    private static final String EMPTY_MARKER = "0";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderRepository orderRepository;
+
+    public boolean hasPurchased(Long userId, Long contentId) {
+        return !filterPurchased(userId, List.of(contentId)).isEmpty();
+    }
+
+    /**
+     * 주어진 콘텐츠 중 사용자가 구매한 콘텐츠 ID만 반환
+     * Redis 장애 시 DB에서 직접 조회
+     */
+    public Set<Long> filterPurchased(Long userId, Collection<Long> contentIds) {
+        if (userId == null || contentIds.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            String key = PREFIX + userId;
+            List<String> members = new ArrayList<>(contentIds.size() + 1);
+            members.add(EMPTY_MARKER);
+            contentIds.forEach(contentId -> members.add(String.valueOf(contentId)));
+
+            // 마커와 대상 ID를 한 번에 확인
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members.toArray());
+            if (result == null || !Boolean.TRUE.equals(result.get(EMPTY_MARKER))) {
+                Set<Long> purchased = new HashSet<>(load(userId, key));
+                purchased.retainAll(contentIds);
+                return purchased;
+            }
+
+            Set<Long> purchased = new HashSet<>();
+            result.forEach((member, isMember) -> {
+                if (Boolean.TRUE.equals(isMember) && !EMPTY_MARKER.equals(member)) {
+                    purchased.add(Long.valueOf((String) member));
+                }
+            });
+            return purchased;
+        } catch (Exception e) {
+            log.warn("구매 권한 캐시 조회 실패. DB에서 직접 조회합니다. userId= {}", userId, e);
+            return new HashSet<>(orderRepository.findContentIdsByUserIdAndStatus(userId, contentIds, OrderStatus.COMPLETED));
+        }
+    }
+
+    /**
+     * 구매 완료 시 호출 - 트랜잭션 커밋 이후 Set에 추가
+     * 키가 없어도 추가하며(TTL 포함), 마커가 없는 Set은 다음 조회 시 DB 내용과 합쳐짐
+     */
+    public void grant(Long userId, Long contentId) {
+        Runnable addEntitlement = () -> {
+            String key = PREFIX + userId;
+            try {
+                addWithTtl(key, List.of(String.valueOf(contentId)));
+            } catch (Exception e) {
+                log.warn("구매 권한 캐시 갱신 실패. userId= {}, contentId= {}", userId, contentId, e);
+                evictQuietly(key);
+            }
+        };
+
+        TransactionUtil.runAfterCommit(addEntitlement);
+    }
+
+    private List<Long> load(Long userId, String key) {
+        List<Long> contentIds = orderRepository.findContentIdsByUserIdAndStatus(userId, OrderStatus.COMPLETED);
+
+        List<String> members = new ArrayList<>(contentIds.size() + 1);
+        members.add(EMPTY_MARKER);
+        contentIds.forEach(contentId -> members.add(String.valueOf(contentId)));
+        addWithTtl(key, members);
+        return contentIds;
+    }
+
+    // SADD와 EXPIRE를 MULTI/EXEC로 묶어 마커/ID/TTL이 함께 반영되도록 함
+    private void addWithTtl(String key, List<String> members) {
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) {
+                operations.multi();
+                operations.opsForSet().add(key, members.toArray());
+                operations.expire(key, TTL);
+                return operations.exec();
+            }
+        });
+    }
+
+    private void evictQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception ignored) {
+            // TTL 만료로 정리됨
+        }
+    }
+}
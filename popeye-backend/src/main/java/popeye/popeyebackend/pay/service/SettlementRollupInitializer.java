@@ -0,0 +1,34 @@
+package popeye.popeyebackend.pay.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import popeye.popeyebackend.pay.repository.SettlementRollupJdbcRepository;
+
+/**
+ * 정산 집계 테이블 초기 적재
+ * 집계 테이블 도입 이전의 settlements가 있고 집계가 비어 있으면 한 번 전체 재계산
+ * 이후에는 정산 배치 Writer가 저장 시점마다 누적
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementRollupInitializer {
+
+	private final SettlementRollupJdbcRepository settlementRollupJdbcRepository;
+
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfEmpty() {
+		if (!settlementRollupJdbcRepository.needsRebuild()) {
+			return;
+		}
+		log.info("정산 집계 테이블 초기 적재 시작");
+		settlementRollupJdbcRepository.rebuildFromSettlements();
+		log.info("정산 집계 테이블 초기 적재 완료");
+	}
+}
@@ -1,5 +1,6 @@
 package popeye.popeyebackend.pay.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
@@ -59,7 +60,7 @@ public class SettlementService {
 		Long loginUserId, Long creatorId) {
 		validateCreator(loginUserId, creatorId);
 
-		// DB 집계 쿼리로 contentId별 집계 조회 (1번만 실행)
+		// 집계 테이블에서 contentId별 누적 정산 조회 (1번만 실행)
 		List<ContentSettlementSummaryProjection> summaries =
 			settlementRepository.findContentSettlementSummariesByCreatorId(creatorId);
 
@@ -100,15 +101,15 @@ public class SettlementService {
 		}
 
 		// 월 범위 계산
-		LocalDateTime fromDateTime = ym.atDay(1).atStartOfDay();
-		LocalDateTime toDateTimeExclusive = ym.plusMonths(1).atDay(1).atStartOfDay();
+		LocalDate fromDate = ym.atDay(1);
+		LocalDate toDateExclusive = ym.plusMonths(1).atDay(1);
 
-		// 일별(DAY) DB 집계
+		// 일별(DAY) 집계 테이블 조회
 		List<ContentSettlementPeriodProjection> projections =
 			settlementRepository.findContentSettlementPeriodsByDay(
 				contentId,
-				fromDateTime,
-				toDateTimeExclusive
+				fromDate,
+				toDateExclusive
 			);
 
 		List<ContentSettlementPeriodItem> items = projections.stream()
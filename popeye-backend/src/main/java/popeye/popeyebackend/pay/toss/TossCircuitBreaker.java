@@ -0,0 +1,80 @@
+package popeye.popeyebackend.pay.toss;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 유지 시간 동안 호출 차단
+ * - 유지 시간이 지나면 한 건만 시험 호출 허용 (성공 시 CLOSED, 실패 시 다시 OPEN)
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 사용
+ */
+class TossCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+    private boolean open = false;
+    private boolean trialInFlight = false;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    TossCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (!open) {
+                return true;
+            }
+            if (!trialInFlight && System.nanoTime() - openedAt >= openNanos) {
+                trialInFlight = true;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            open = false;
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (trialInFlight || consecutiveFailures >= failureThreshold) {
+                open = true;
+                openedAt = System.nanoTime();
+                trialInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 요청을 보내지 못하고 끝난 호출: 실패로 집계하지 않고 시험 호출 자리만 반납
+    void onAbandoned() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package popeye.popeyebackend.pay.toss;
+
+/**
+ * 서킷 브레이커가 열려 Toss API를 호출하지 않고 실패한 경우
+ * (요청이 PG에 전달되지 않았음이 확실함)
+ */
+public class TossCircuitOpenException extends TossNotSentException {
+    public TossCircuitOpenException(String endpoint) {
+        super("TOSS_CIRCUIT_OPEN", "Toss API 호출 차단 중: " + endpoint, null);
+    }
+}
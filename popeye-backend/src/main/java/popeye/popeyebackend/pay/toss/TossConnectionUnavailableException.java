@@ -0,0 +1,11 @@
+package popeye.popeyebackend.pay.toss;
+
+/**
+ * 커넥션 풀에서 제한 시간 안에 커넥션을 얻지 못해 Toss API를 호출하지 못한 경우
+ * (요청을 보내기 전 단계의 실패이므로 PG에 전달되지 않았음이 확실함)
+ */
+public class TossConnectionUnavailableException extends TossNotSentException {
+    public TossConnectionUnavailableException(String endpoint, Throwable cause) {
+        super("TOSS_POOL_TIMEOUT", "Toss API 커넥션 풀 대기 시간 초과: " + endpoint, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package popeye.popeyebackend.pay.toss;
+
+import lombok.Getter;
+
+/**
+ * Toss API 요청이 PG에 전달되지 않았음이 확실한 실패
+ * 결제 상태를 미확정(PENDING)으로 남기지 않고 바로 실패 처리해도 됨
+ */
+@Getter
+public abstract class TossNotSentException extends RuntimeException {
+
+    // 결제 실패 사유로 기록할 코드
+    private final String reason;
+
+    protected TossNotSentException(String reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+}
@@ -1,8 +1,18 @@
 package popeye.popeyebackend.pay.toss;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import popeye.popeyebackend.pay.toss.dto.cancel.TossCancelRequestDto;
 import popeye.popeyebackend.pay.toss.dto.cancel.TossCancelResponseDto;
@@ -10,39 +20,185 @@ import popeye.popeyebackend.pay.toss.dto.confirm.TossConfirmRequestDto;
 import popeye.popeyebackend.pay.toss.dto.confirm.TossConfirmResponseDto;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * Toss Payments API 클라이언트
+ * - 커넥션 풀 공유, 엔드포인트별 응답 타임아웃
+ * - 5xx/연결 실패는 지터 포함 지수 백오프로 재시도 (승인/취소는 Idempotency-Key로 중복 처리 방지)
+ * - 연속 실패 시 서킷 브레이커로 호출 차단
+ * - 요청이 PG에 전달되지 않았음이 확실한 실패(서킷 차단, 커넥션 풀 대기 초과)는 TossNotSentException
+ * - 엔드포인트별 지연 시간 Micrometer 타이머(toss.client.requests) 기록
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class TossPaymentsClient {
 
+    private static final String CONFIRM = "confirm";
+    private static final String CANCEL = "cancel";
+    private static final String LOOKUP = "lookup";
+
     private final TossPaymentsProperties props;
-    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RestTemplate confirmTemplate;
+    private final RestTemplate cancelTemplate;
+    private final RestTemplate lookupTemplate;
+    private final TossCircuitBreaker circuitBreaker;
+    private final Counter retryCounter;
+    // secretKey는 기동 후 바뀌지 않으므로 인코딩 결과를 재사용
+    private final String authorizationHeader;
+
+    public TossPaymentsClient(TossPaymentsProperties props,
+                              CloseableHttpClient tossHttpClient,
+                              RestTemplateBuilder restTemplateBuilder,
+                              MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.confirmTemplate = restTemplate(restTemplateBuilder, tossHttpClient, props, props.getConfirmReadTimeout());
+        this.cancelTemplate = restTemplate(restTemplateBuilder, tossHttpClient, props, props.getCancelReadTimeout());
+        this.lookupTemplate = restTemplate(restTemplateBuilder, tossHttpClient, props, props.getLookupReadTimeout());
+        this.circuitBreaker = new TossCircuitBreaker(props.getCircuitFailureThreshold(), props.getCircuitOpenDuration());
+        this.retryCounter = Counter.builder("toss.client.retries").register(meterRegistry);
+        this.authorizationHeader = basicAuthHeader(props.getSecretKey());
+    }
 
     public TossConfirmResponseDto confirm(String paymentKey, String orderId, int amount) {
         String url = props.getBaseUrl() + "/v1/payments/confirm";
         HttpHeaders headers = defaultHeaders();
+        headers.set("Idempotency-Key", "confirm-" + orderId);
         TossConfirmRequestDto body = new TossConfirmRequestDto(paymentKey, orderId, amount);
-        return restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), TossConfirmResponseDto.class)
-                .getBody();
+        return execute(CONFIRM, () -> confirmTemplate
+                .exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), TossConfirmResponseDto.class)
+                .getBody());
     }
 
     public TossCancelResponseDto cancel(String paymentKey, String cancelReason) {
         String url = props.getBaseUrl() + "/v1/payments/" + paymentKey + "/cancel";
         HttpHeaders headers = defaultHeaders();
+        headers.set("Idempotency-Key", "cancel-" + paymentKey);
         TossCancelRequestDto body = new TossCancelRequestDto(cancelReason, null); // 전액 취소
-        return restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), TossCancelResponseDto.class)
-                .getBody();
+        return execute(CANCEL, () -> cancelTemplate
+                .exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), TossCancelResponseDto.class)
+                .getBody());
+    }
+
+    // 주문번호(pgOrderId)로 결제 조회 (복구용)
+    public TossConfirmResponseDto getByOrderId(String orderId) {
+        String url = props.getBaseUrl() + "/v1/payments/orders/" + orderId;
+        return execute(LOOKUP, () -> lookupTemplate
+                .exchange(url, HttpMethod.GET, new HttpEntity<>(defaultHeaders()), TossConfirmResponseDto.class)
+                .getBody());
+    }
+
+    // paymentKey로 결제 조회 (복구용)
+    public TossConfirmResponseDto getByPaymentKey(String paymentKey) {
+        String url = props.getBaseUrl() + "/v1/payments/" + paymentKey;
+        return execute(LOOKUP, () -> lookupTemplate
+                .exchange(url, HttpMethod.GET, new HttpEntity<>(defaultHeaders()), TossConfirmResponseDto.class)
+                .getBody());
+    }
+
+    /**
+     * 재시도 + 서킷 브레이커 + 지연 시간 기록
+     * 4xx는 PG가 정상 응답한 비즈니스 오류이므로 재시도/실패 집계하지 않음
+     * 커넥션 풀 대기 초과는 로컬 포화이므로 재시도/실패 집계하지 않고,
+     * 앞선 시도가 PG에 전달됐을 수 있으면 ResourceAccessException(결과 미확정)으로 던짐
+     */
+    private <T> T execute(String endpoint, Supplier<T> call) {
+        int maxAttempts = Math.max(1, props.getMaxAttempts());
+        boolean maybeSent = false;
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                record(endpoint, "CIRCUIT_OPEN", 0);
+                throw new TossCircuitOpenException(endpoint);
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                record(endpoint, "SUCCESS", System.nanoTime() - start);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (HttpClientErrorException e) {
+                record(endpoint, "CLIENT_ERROR", System.nanoTime() - start);
+                circuitBreaker.onSuccess();
+                throw e;
+            } catch (HttpServerErrorException | ResourceAccessException e) {
+                if (isConnectionRequestTimeout(e)) {
+                    record(endpoint, "POOL_TIMEOUT", System.nanoTime() - start);
+                    circuitBreaker.onAbandoned();
+                    if (maybeSent) {
+                        throw e;
+                    }
+                    throw new TossConnectionUnavailableException(endpoint, e);
+                }
+                maybeSent = true;
+                record(endpoint, e instanceof HttpServerErrorException ? "SERVER_ERROR" : "IO_ERROR",
+                        System.nanoTime() - start);
+                circuitBreaker.onFailure();
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("Toss API 재시도: endpoint={}, attempt={}, cause={}", endpoint, attempt, e.getMessage());
+                retryCounter.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 커넥션 풀에서 커넥션을 얻지 못한 실패 (요청 전송 전)
+    private static boolean isConnectionRequestTimeout(Exception e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionRequestTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // full jitter: [0, base * 2^(attempt-1)) 범위에서 무작위 대기
+    private void backoff(int attempt) {
+        long ceiling = props.getRetryBackoff().toMillis() << (attempt - 1);
+        long sleepMillis = ThreadLocalRandom.current().nextLong(Math.max(1, ceiling));
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Toss API 재시도 대기 중 인터럽트");
+        }
+    }
+
+    private void record(String endpoint, String outcome, long nanos) {
+        Timer.builder("toss.client.requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
     }
 
     private HttpHeaders defaultHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("Authorization", basicAuthHeader(props.getSecretKey())); // :contentReference[oaicite:6]{index=6}
+        headers.set("Authorization", authorizationHeader);
         return headers;
     }
 
-    private String basicAuthHeader(String secretKey) {
+    private static RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient,
+                                             TossPaymentsProperties props, Duration readTimeout) {
+        return builder.requestFactory(() -> {
+            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+            factory.setConnectionRequestTimeout(props.getConnectionRequestTimeout());
+            factory.setReadTimeout(readTimeout);
+            return factory;
+        }).build();
+    }
+
+    private static String basicAuthHeader(String secretKey) {
         // secretKey 뒤에 ":" 붙여 base64 인코딩
         String raw = secretKey + ":";
         String encoded = Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
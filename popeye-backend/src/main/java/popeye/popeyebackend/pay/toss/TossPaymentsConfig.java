@@ -1,23 +1,41 @@
 package popeye.popeyebackend.pay.toss;
 
-
-
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 
 @Configuration
-
 @EnableConfigurationProperties(TossPaymentsProperties.class)
-
 public class TossPaymentsConfig {
-    @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder){
-        return builder.build();
-    }
 
-}
\ No newline at end of file
+    /**
+     * Toss 전용 커넥션 풀 (엔드포인트별 RestTemplate이 공유)
+     * 재시도는 TossPaymentsClient에서 직접 처리하므로 HttpClient 자체 재시도는 끔
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient tossHttpClient(TossPaymentsProperties props) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(props.getMaxConnections())
+                .setMaxConnPerRoute(props.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(props.getConnectTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableAutomaticRetries()
+                .build();
+    }
+}
@@ -4,10 +4,42 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "popeye.toss")
 public class TossPaymentsProperties {
     private String secretKey;
     private String baseUrl = "https://api.tosspayments.com";
+
+    // 커넥션 풀
+    private int maxConnections = 50;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    // 풀에서 커넥션을 얻기까지 최대 대기 시간 (풀 고갈 시 빠르게 실패)
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    // 엔드포인트별 응답 대기 시간 (승인은 카드사 응답까지 기다려야 하므로 가장 길게)
+    private Duration confirmReadTimeout = Duration.ofSeconds(30);
+    private Duration cancelReadTimeout = Duration.ofSeconds(15);
+    private Duration lookupReadTimeout = Duration.ofSeconds(5);
+
+    // 5xx/연결 실패 재시도 (Idempotency-Key 헤더로 중복 승인/취소 방지)
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    // 서킷 브레이커: 연속 실패 횟수와 차단 유지 시간
+    private int circuitFailureThreshold = 5;
+    private Duration circuitOpenDuration = Duration.ofSeconds(30);
+
+    /**
+     * 재시도를 모두 소진했을 때의 최악 응답 시간
+     * 시도마다 (풀 대기 + 연결 + 응답 대기), 시도 사이 백오프 상한 (base * 2^(n-1))의 합
+     */
+    public Duration worstCaseLatency(Duration readTimeout) {
+        int attempts = Math.max(1, maxAttempts);
+        Duration perAttempt = connectionRequestTimeout.plus(connectTimeout).plus(readTimeout);
+        Duration backoff = retryBackoff.multipliedBy((1L << (attempts - 1)) - 1);
+        return perAttempt.multipliedBy(attempts).plus(backoff);
+    }
 }
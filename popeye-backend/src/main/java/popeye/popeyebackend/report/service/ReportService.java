@@ -12,6 +12,7 @@ import popeye.popeyebackend.content.domain.Content;
 import popeye.popeyebackend.content.domain.ContentBan;
 import popeye.popeyebackend.content.enums.ContentStatus;
 import popeye.popeyebackend.content.repository.ContentBanRepository;
+import popeye.popeyebackend.content.service.ContentDetailCache;
 import popeye.popeyebackend.content.service.ContentService;
 import popeye.popeyebackend.report.domain.Report;
 import popeye.popeyebackend.report.dto.ReportReqDto;
@@ -42,6 +43,7 @@ public class ReportService {
     private final ContentService contentService;
     private final UserService userService;
     private final ContentBanRepository contentBanRepository;
+    private final ContentDetailCache contentDetailCache;
 
     // 신고 목록 받기
     @Transactional(readOnly = true)
@@ -95,6 +97,7 @@ public class ReportService {
 
     private void blockContent(Content content) {
         content.inactivate();
+        contentDetailCache.evict(content.getId());
         content.getCreator().getUser().getDevilUser().plusDevilCount();
     }
 
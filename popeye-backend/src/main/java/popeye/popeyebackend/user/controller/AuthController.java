@@ -10,8 +10,10 @@ import popeye.popeyebackend.user.dto.response.TokenResponse;
 import popeye.popeyebackend.user.service.PhoneVerificationService;
 import popeye.popeyebackend.user.service.UserService;
 import popeye.popeyebackend.global.common.ApiResponse;
+import popeye.popeyebackend.global.security.details.PrincipalDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -39,7 +41,11 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ApiResponse<Void> logout() {
+    public ApiResponse<Void> logout(@AuthenticationPrincipal PrincipalDetails principalDetails) {
+        // /api/auth/**는 인증 없이 접근 가능하므로 토큰 없이 호출되면 폐기할 토큰도 없음
+        if (principalDetails != null) {
+            userService.logout(principalDetails.getUserId());
+        }
         return ApiResponse.success("로그아웃이 완료되었습니다.", null);
     }
 
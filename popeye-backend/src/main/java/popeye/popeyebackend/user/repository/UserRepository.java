@@ -1,6 +1,8 @@
 package popeye.popeyebackend.user.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -57,4 +59,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Long sumTotalSpinachAmount();
 
     long countAllByRole(Role role);
+
+    /**
+     * 지갑(크레딧 잔액) 변경용 사용자 조회 (비관적 락)
+     *
+     * 동시성 방어: PESSIMISTIC_WRITE 락으로 users row 잠금 (SELECT ... FOR UPDATE)
+     * - 같은 사용자의 구매/충전/환불이 순서대로 처리됨
+     * - 잠금 단위가 사용자 한 명이므로 다른 사용자의 요청은 서로 막지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
 }
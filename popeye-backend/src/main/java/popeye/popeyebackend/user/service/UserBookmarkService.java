@@ -4,9 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.dto.ContentViewerState;
 import popeye.popeyebackend.content.dto.response.ContentListRes;
 import popeye.popeyebackend.content.repository.ContentBookmarkRepository;
-import popeye.popeyebackend.content.repository.ContentLikeRepository;
+import popeye.popeyebackend.content.service.ContentViewerStateResolver;
 import popeye.popeyebackend.pay.domain.Order;
 import popeye.popeyebackend.pay.enums.OrderStatus;
 import popeye.popeyebackend.pay.repository.OrderRepository;
@@ -22,9 +23,9 @@ import java.util.stream.Collectors;
 public class UserBookmarkService {
 
     private final ContentBookmarkRepository bookmarkRepository;
-    private final ContentLikeRepository likeRepository;
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
+    private final ContentViewerStateResolver viewerStateResolver;
 
     public List<ContentListRes> getBookmarkedContents(Long userId) {
         User user = userRepository.findById(userId)
@@ -36,15 +37,12 @@ public class UserBookmarkService {
                 .filter(content -> content.isActive())
                 .collect(Collectors.toList());
 
-        return bookmarkedContents.stream().map(content -> {
-            boolean liked = likeRepository.existsByUserAndContent(user, content);
-            boolean bookmarked = true; // 북마크 목록이므로 항상 true
-            boolean purchased = orderRepository.findByUserIdAndContentId(userId, content.getId())
-                    .map(order -> order.getOrderStatus().equals(OrderStatus.COMPLETED))
-                    .orElse(false);
+        List<Long> contentIds = bookmarkedContents.stream().map(Content::getId).toList();
+        ContentViewerState viewerState = viewerStateResolver.resolve(user.getId(), contentIds);
 
-            return ContentListRes.from(content, liked, bookmarked, purchased);
-        }).collect(Collectors.toList());
+        return bookmarkedContents.stream()
+                .map(content -> ContentListRes.from(content, viewerState))
+                .collect(Collectors.toList());
     }
 
     public List<ContentListRes> getPurchasedContents(Long userId) {
@@ -61,13 +59,11 @@ public class UserBookmarkService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        return purchasedContents.stream().map(content -> {
-            boolean liked = likeRepository.existsByUserAndContent(user, content);
-            boolean bookmarked = bookmarkRepository.existsByUserAndContent(user, content);
-            boolean purchased = true; // 구매 목록이므로 항상 true
+        List<Long> contentIds = purchasedContents.stream().map(Content::getId).toList();
+        ContentViewerState viewerState = viewerStateResolver.resolve(user.getId(), contentIds);
 
-            return ContentListRes.from(content, liked, bookmarked, purchased);
-        }).collect(Collectors.toList());
+        return purchasedContents.stream()
+                .map(content -> ContentListRes.from(content, viewerState))
+                .collect(Collectors.toList());
     }
 }
-
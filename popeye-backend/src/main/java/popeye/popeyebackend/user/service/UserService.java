@@ -13,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import popeye.popeyebackend.content.global.s3.S3Uploader;
 import popeye.popeyebackend.global.security.jwt.JwtTokenProvider;
+import popeye.popeyebackend.global.security.service.CustomUserDetailsService;
+import popeye.popeyebackend.global.security.service.TokenRevocationCache;
 import popeye.popeyebackend.pay.service.FreeCreditPolicyService;
 import popeye.popeyebackend.user.domain.BannedUser;
 import popeye.popeyebackend.user.domain.Creator;
@@ -54,6 +56,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationCache tokenRevocationCache;
+    private final CustomUserDetailsService customUserDetailsService;
     private final DevilUserRepository devilUserRepository;
     private final CreatorRepository creatorRepository;
     private final BannedUserRepository bannedUserRepository;
@@ -159,6 +163,8 @@ public class UserService {
     }
 
     //로그인: 인증 후 JWT 토큰 발급 - 완료
+    //차단 기간이 끝난 사용자는 역할을 복구한 뒤 발급 (토큰 클레임에 현재 역할이 담기도록)
+    @Transactional
     public TokenResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new UserNotFoundException("가입되지 않은 이메일입니다."));
@@ -167,10 +173,17 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        customUserDetailsService.refreshBanStatus(user);
+
+        String token = jwtTokenProvider.createToken(user);
         return TokenResponse.of(token);
     }
 
+    // 로그아웃: 지금까지 발급된 토큰을 폐기 (토큰은 사용자 단위로 폐기되므로 다른 기기의 토큰도 함께 만료)
+    public void logout(Long userId) {
+        tokenRevocationCache.revoke(userId);
+    }
+
     //U-04: 내 프로필 정보 조회 - 완료
     @Transactional //추천코드 없을 때를 대비
     public UserProfileResponse getMyProfile(String email) {
@@ -250,6 +263,9 @@ public class UserService {
             log.info("creators 테이블에 레코드가 성공적으로 생성되었습니다.");
         }
 
+        // 기존 토큰에는 CREATOR 역할/creatorId가 없으므로 폐기 (재로그인 시 새 클레임으로 발급)
+        tokenRevocationCache.revoke(user.getId());
+
         log.info("사용자 {} 권한 승격 완료 (USER -> CREATOR)", email);
     }
     @Transactional(readOnly = true)
@@ -258,6 +274,13 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
     }
     
+    // 크레딧 잔액을 변경하는 트랜잭션에서 사용 (사용자 row 잠금, 호출 측 트랜잭션 종료 시 해제)
+    @Transactional
+    public User getUserForUpdate(Long id) {
+        return userRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    }
+
     @Transactional(readOnly = true)
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
@@ -279,6 +302,7 @@ public class UserService {
         // 1. 상태 변경
         targetUser.changeRole(Role.BLOCKED);
         devilUser.plusBlockedDays(banDays);
+        tokenRevocationCache.revoke(targetUser.getId());
 
         Optional<BannedUser> banUser = bannedUserRepository.findByUser(targetUser);
 
@@ -318,7 +342,8 @@ public class UserService {
         BannedUser user = bannedUserRepository.findByUserId(targetId)
                 .orElseThrow(() -> new UserNotFoundException("차단된 사용자 정보를 찾을 수 없습니다."));
         user.setUnbannedAt(LocalDate.now());
-        // role을 바꿔주는 역할은 CustomUserDetailsService에서 실시
+        // role을 바꿔주는 역할은 CustomUserDetailsService에서 실시 (재로그인 시 복구되도록 BLOCKED 토큰 폐기)
+        tokenRevocationCache.revoke(targetId);
     }
 
     //U-08: 크리에이터 정산 정보 업데이트 (실명, 은행, 암호화 계좌)
@@ -432,6 +457,7 @@ public class UserService {
 
         // Soft Delete: deletedAt에 현재 시간 기록
         user.deleteUser(LocalDateTime.now());
+        tokenRevocationCache.revoke(user.getId());
 
         log.info("회원 탈퇴 완료: {} (탈퇴 일시: {})", email, user.getDeletedAt());
     }
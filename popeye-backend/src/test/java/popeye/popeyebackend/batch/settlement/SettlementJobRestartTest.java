@@ -0,0 +1,150 @@
+package popeye.popeyebackend.batch.settlement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import popeye.popeyebackend.batch.scheduler.BatchJobParameters;
+import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.repository.ContentRepository;
+import popeye.popeyebackend.pay.repository.SettlementRollupJdbcRepository;
+import popeye.popeyebackend.user.domain.Creator;
+import popeye.popeyebackend.user.domain.User;
+import popeye.popeyebackend.user.enums.Role;
+import popeye.popeyebackend.user.repository.CreatorRepository;
+import popeye.popeyebackend.user.repository.UserRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * 정산 chunk 하나가 중간에 실패한 뒤 같은 파라미터로 재시작하면
+ * 모든 주문이 정확히 한 번씩 정산되는지 확인
+ */
+@SpringBootTest
+class SettlementJobRestartTest {
+
+    // settlementStep chunk(100) 기준 3개 chunk
+    private static final int CONTENTS = 250;
+    private static final int PRICE = 10;
+    private static final LocalDate SETTLE_DAY = LocalDate.of(2001, 1, 1);
+
+    @Autowired
+    private JobLauncher jobLauncher;
+    @Autowired
+    private Job settlementJob;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CreatorRepository creatorRepository;
+    @Autowired
+    private ContentRepository contentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private SettlementRollupJdbcRepository settlementRollupJdbcRepository;
+
+    private User buyer;
+    private User creatorUser;
+    private Creator creator;
+    private final List<Long> contentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(newUser(Role.USER));
+        creatorUser = userRepository.save(newUser(Role.CREATOR));
+        creator = creatorRepository.save(Creator.from(creatorUser));
+
+        Timestamp orderedAt = Timestamp.valueOf(SETTLE_DAY.atTime(12, 0));
+        for (int i = 0; i < CONTENTS; i++) {
+            Content content = contentRepository.save(Content.builder()
+                    .title("restart-" + i)
+                    .content("<p>body</p>")
+                    .price(PRICE)
+                    .discountRate(0)
+                    .isFree(false)
+                    .creator(creator)
+                    .build());
+            contentIds.add(content.getId());
+            jdbcTemplate.update("""
+                    INSERT INTO orders (order_status, user_id, content_id, credit_used, quantity, created_at, settlement)
+                    VALUES ('COMPLETED', ?, ?, ?, 1, ?, false)
+                    """, buyer.getId(), content.getId(), PRICE, orderedAt);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM settlement_daily_rollups WHERE creator_id = ?", creator.getId());
+        jdbcTemplate.update("DELETE FROM settlement_content_rollups WHERE creator_id = ?", creator.getId());
+        jdbcTemplate.update("DELETE FROM settlements WHERE creator_id = ?", creator.getId());
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", buyer.getId());
+        contentRepository.deleteAllById(contentIds);
+        creatorRepository.deleteById(creator.getId());
+        userRepository.deleteAllById(List.of(buyer.getId(), creatorUser.getId()));
+        contentIds.clear();
+    }
+
+    @Test
+    void restartAfterFailedChunkSettlesEveryOrderOnce() throws Exception {
+        // 두 번째 chunk에서 실패 (첫 chunk는 커밋, 두 번째 chunk는 롤백)
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("chunk failure"))
+                .doCallRealMethod()
+                .when(settlementRollupJdbcRepository).accumulate(any(), any());
+
+        // 테스트 실행마다 새 JobInstance가 되도록 식별 파라미터 추가
+        JobParameters params = new JobParametersBuilder(BatchJobParameters.settlement(SETTLE_DAY))
+                .addString("test.id", UUID.randomUUID().toString())
+                .toJobParameters();
+
+        JobExecution failed = jobLauncher.run(settlementJob, params);
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(settledOrders()).isEqualTo(100);
+
+        JobExecution restarted = jobLauncher.run(settlementJob, params);
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        Integer settlements = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM settlements WHERE creator_id = ?", Integer.class, creator.getId());
+        Integer rollupCount = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(settlement_count), 0) FROM settlement_content_rollups WHERE creator_id = ?",
+                Integer.class, creator.getId());
+
+        assertThat(settledOrders()).isEqualTo(CONTENTS);
+        assertThat(settlements).isEqualTo(CONTENTS);
+        assertThat(rollupCount).isEqualTo(CONTENTS);
+    }
+
+    private Integer settledOrders() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE user_id = ? AND settlement = true", Integer.class, buyer.getId());
+    }
+
+    private User newUser(Role role) {
+        String key = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .email(key + "@restart.test")
+                .nickname("r-" + key)
+                .role(role)
+                .phoneNumber("010" + Math.abs(key.hashCode()))
+                .build();
+    }
+}
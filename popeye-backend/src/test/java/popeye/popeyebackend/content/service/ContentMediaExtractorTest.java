@@ -0,0 +1,81 @@
+package popeye.popeyebackend.content.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+import popeye.popeyebackend.content.dto.ExtractedMedia;
+import popeye.popeyebackend.content.enums.MediaType;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 스캐너(ContentMediaExtractor)가 기존 Jsoup DOM 구현(JsoupMediaExtractor)과 같은 URL을 추출하는지 확인
+ * DOM 구현은 img 전체 -> video 전체 순서이고 중복을 제거하지 않으므로 순서/중복은 비교하지 않음
+ */
+class ContentMediaExtractorTest {
+
+    private final ContentMediaExtractor extractor = new ContentMediaExtractor();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // 주석
+            "<p>a</p><!-- <img src=\"hidden.png\"> --><img src=\"shown.png\">",
+            "<!--<video src=\"hidden.mp4\"></video>--><video src=\"shown.mp4\"></video>",
+            // 원문 텍스트 요소 내부
+            "<script>var s = '<img src=\"in-script.png\">';</script><img src=\"a.png\">",
+            "<style>/* <img src=\"in-style.png\"> */</style><img src=\"b.png\">",
+            "<textarea><img src=\"in-textarea.png\"></textarea><img src=\"c.png\">",
+            "<script>document.write('</div><img src=\"x.png\">')</script><img src=\"d.png\">",
+            // 따옴표 없는 속성, 엔티티
+            "<img src=plain.png alt=x><img src='single.png'>",
+            "<img src=\"a.png?w=1&amp;h=2\"><img src=b.png?w=1&amp;h=2>",
+            "<img alt=\"&lt;img src=fake.png&gt;\" src=\"real.png\">",
+            "<img src = \"spaced.png\" >",
+            // video + source
+            "<video controls><source src=\"first.mp4\"><source src=\"second.mp4\"></video>",
+            "<video src=\"direct.mp4\"><source src=\"ignored.mp4\"></video>",
+            "<video src=\"\"><source src=\"fallback.mp4\"></video>",
+            "<video src=\"   \"><source src=\"not-used.mp4\"></video>",
+            "<video><source></video><video><source src=\"next.mp4\"></video>",
+            "<source src=\"orphan.mp4\"><video></video>",
+            // 대문자 태그/속성
+            "<IMG SRC=\"upper.png\"><Video><SOURCE Src=\"upper.mp4\"></VIDEO>",
+            "<SCRIPT><img src=\"in-upper-script.png\"></SCRIPT><img src=\"e.png\">",
+            // 빈 값, 중복 속성
+            "<img src=\"\"><img src=\"  \"><img>",
+            "<img src=\"first.png\" src=\"second.png\">"
+    })
+    void matchesDomExtractor(String html) {
+        List<ExtractedMedia> expected = JsoupMediaExtractor.extract(html);
+
+        assertThat(extractor.extract(html)).containsExactlyInAnyOrderElementsOf(new LinkedHashSet<>(expected));
+    }
+
+    @Test
+    void ignoresMediaInsideCommentsAndRawText() {
+        String html = "<!-- <img src=\"c.png\"> --><script><img src=\"s.png\"></script>"
+                + "<textarea><video src=\"t.mp4\"></video></textarea><img src=\"real.png\">";
+
+        assertThat(extractor.extract(html))
+                .containsExactly(new ExtractedMedia("real.png", MediaType.IMAGE));
+    }
+
+    @Test
+    void whitespaceOnlyVideoSrcDoesNotFallBackToSource() {
+        String html = "<video src=\" \"><source src=\"fallback.mp4\"></video>";
+
+        assertThat(extractor.extract(html)).isEmpty();
+    }
+
+    @Test
+    void keepsDocumentOrderWithoutDuplicates() {
+        String html = "<video src=\"v.mp4\"></video><img src=\"a.png\"><img src=\"a.png\">";
+
+        assertThat(extractor.extract(html)).containsExactly(
+                new ExtractedMedia("v.mp4", MediaType.VIDEO),
+                new ExtractedMedia("a.png", MediaType.IMAGE));
+    }
+}
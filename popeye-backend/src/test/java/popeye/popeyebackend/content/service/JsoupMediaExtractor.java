@@ -0,0 +1,46 @@
+package popeye.popeyebackend.content.service;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import popeye.popeyebackend.content.dto.ExtractedMedia;
+import popeye.popeyebackend.content.enums.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 ContentService.extractImageUrls 구현 (Jsoup DOM 파싱)
+ * ContentMediaExtractor 결과 비교 기준 - 동등성 테스트와 JMH 벤치마크에서 함께 사용
+ */
+public final class JsoupMediaExtractor {
+
+    private JsoupMediaExtractor() {
+    }
+
+    public static List<ExtractedMedia> extract(String htmlContent) {
+        List<ExtractedMedia> urls = new ArrayList<>();
+        Document doc = Jsoup.parse(htmlContent);
+
+        for (Element img : doc.select("img")) {
+            String src = img.attr("src");
+            if (!src.isBlank()) {
+                urls.add(new ExtractedMedia(src, MediaType.IMAGE));
+            }
+        }
+
+        for (Element video : doc.select("video")) {
+            String src = video.attr("src");
+            if (src.isEmpty()) {
+                Element source = video.select("source").first();
+                if (source != null) {
+                    src = source.attr("src");
+                }
+            }
+            if (!src.isBlank()) {
+                urls.add(new ExtractedMedia(src, MediaType.VIDEO));
+            }
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,249 @@
+package popeye.popeyebackend.pay.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import popeye.popeyebackend.content.domain.Content;
+import popeye.popeyebackend.content.repository.ContentRepository;
+import popeye.popeyebackend.pay.domain.Credit;
+import popeye.popeyebackend.pay.enums.CreditType;
+import popeye.popeyebackend.pay.repository.CreditRepository;
+import popeye.popeyebackend.user.domain.Creator;
+import popeye.popeyebackend.user.domain.User;
+import popeye.popeyebackend.user.enums.Role;
+import popeye.popeyebackend.user.repository.CreatorRepository;
+import popeye.popeyebackend.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구매 동시성 확인 (MySQL/Redis가 필요한 통합 테스트, ./gradlew integrationTest로 실행)
+ * - 한 사용자의 지갑에 64개 스레드가 동시에 구매를 요청해도 잔액 이상으로 차감되지 않음
+ * - 서로 다른 사용자의 구매는 서로를 기다리지 않음 (잠금은 구매자 users 행 단위)
+ */
+@Tag("integration")
+@SpringBootTest
+class OrderServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int PRICE = 10;
+    // 잔액은 절반의 구매만 가능하도록 설정
+    private static final int AFFORDABLE = THREADS / 2;
+    // 같은 콘텐츠를 동시에 구매하는 사용자 수
+    private static final int BUYERS = 32;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CreatorRepository creatorRepository;
+    @Autowired
+    private ContentRepository contentRepository;
+    @Autowired
+    private CreditRepository creditRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User buyer;
+    private User creatorUser;
+    private Creator creator;
+    private final List<Long> contentIds = new ArrayList<>();
+    private final List<Long> otherBuyerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.save(newUser(Role.USER));
+        creatorUser = userRepository.save(newUser(Role.CREATOR));
+        creator = creatorRepository.save(Creator.from(creatorUser));
+
+        // FREE/PAID 버킷을 여러 개로 나눠 차감 경로가 여러 행을 거치도록 구성
+        int half = PRICE * AFFORDABLE / 2;
+        creditRepository.save(Credit.builder()
+                .user(buyer)
+                .creditType(CreditType.FREE)
+                .amount(half)
+                .expiredAt(LocalDateTime.now().plusDays(1))
+                .build());
+        creditRepository.save(Credit.builder()
+                .user(buyer)
+                .creditType(CreditType.PAID)
+                .amount(PRICE * AFFORDABLE - half)
+                .paidAt(LocalDateTime.now())
+                .build());
+        jdbcTemplate.update("UPDATE users SET total_spinach = ?, total_starcandy = ? WHERE id = ?",
+                half, PRICE * AFFORDABLE - half, buyer.getId());
+
+        for (int i = 0; i < THREADS; i++) {
+            Content content = contentRepository.save(Content.builder()
+                    .title("concurrency-" + i)
+                    .content("<p>body</p>")
+                    .price(PRICE)
+                    .discountRate(0)
+                    .isFree(false)
+                    .creator(creator)
+                    .build());
+            contentIds.add(content.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> buyerIds = new ArrayList<>(otherBuyerIds);
+        buyerIds.add(buyer.getId());
+        for (Long buyerId : buyerIds) {
+            jdbcTemplate.update("DELETE FROM credit_histories WHERE user_id = ?", buyerId);
+            jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", buyerId);
+            jdbcTemplate.update("DELETE FROM credits WHERE user_id = ?", buyerId);
+        }
+        contentRepository.deleteAllById(contentIds);
+        creatorRepository.deleteById(creator.getId());
+        buyerIds.add(creatorUser.getId());
+        userRepository.deleteAllById(buyerIds);
+        contentIds.clear();
+        otherBuyerIds.clear();
+    }
+
+    @Test
+    void concurrentPurchasesNeverOverspendOneWallet() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        for (Long contentId : contentIds) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    orderService.purchase(buyer.getId(), contentId);
+                    succeeded.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 잔액 부족 실패는 정상 동작
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        Integer remainingBuckets = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM credits WHERE user_id = ?", Integer.class, buyer.getId());
+        Integer orders = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE user_id = ?", Integer.class, buyer.getId());
+        User reloaded = userRepository.findById(buyer.getId()).orElseThrow();
+
+        assertThat(succeeded.get()).isEqualTo(AFFORDABLE);
+        assertThat(orders).isEqualTo(AFFORDABLE);
+        assertThat(remainingBuckets).isZero();
+        assertThat(reloaded.getTotalSpinach()).isZero();
+        assertThat(reloaded.getTotalStarcandy()).isZero();
+    }
+
+    /**
+     * 한 구매자의 users 행을 다른 트랜잭션이 잠그고 있는 동안
+     * 같은 콘텐츠를 사는 나머지 구매자들은 모두 끝나고, 잠긴 구매자만 잠금 해제 후 끝나는지 확인
+     */
+    @Test
+    void purchasesByDifferentUsersDoNotSerialize() throws Exception {
+        List<Long> buyerIds = new ArrayList<>();
+        buyerIds.add(buyer.getId());
+        for (int i = 1; i < BUYERS; i++) {
+            User other = userRepository.save(newUser(Role.USER));
+            otherBuyerIds.add(other.getId());
+            buyerIds.add(other.getId());
+        }
+        // 구매자마다 콘텐츠 1개를 살 수 있는 잔액
+        jdbcTemplate.update("DELETE FROM credits WHERE user_id = ?", buyer.getId());
+        for (Long buyerId : buyerIds) {
+            creditRepository.save(Credit.builder()
+                    .user(userRepository.findById(buyerId).orElseThrow())
+                    .creditType(CreditType.FREE)
+                    .amount(PRICE)
+                    .expiredAt(LocalDateTime.now().plusDays(1))
+                    .build());
+            jdbcTemplate.update("UPDATE users SET total_spinach = ?, total_starcandy = 0 WHERE id = ?",
+                    PRICE, buyerId);
+        }
+        Long contentId = contentIds.get(0);
+        Long blockedBuyerId = buyer.getId();
+
+        // 다른 트랜잭션이 첫 번째 구매자의 users 행을 잠근 채 대기
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS + 1);
+        Future<?> blocker = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT id FROM users WHERE id = ? FOR UPDATE", Long.class, blockedBuyerId);
+            locked.countDown();
+            try {
+                release.await(60, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CountDownLatch othersDone = new CountDownLatch(BUYERS - 1);
+        AtomicInteger othersSucceeded = new AtomicInteger();
+        Future<Long> blockedPurchase = executor.submit(() -> orderService.purchase(blockedBuyerId, contentId));
+        for (Long buyerId : otherBuyerIds) {
+            executor.submit(() -> {
+                try {
+                    orderService.purchase(buyerId, contentId);
+                    othersSucceeded.incrementAndGet();
+                } finally {
+                    othersDone.countDown();
+                }
+                return null;
+            });
+        }
+
+        try {
+            // 잠긴 구매자를 기다리지 않고 나머지 구매가 모두 끝남
+            assertThat(othersDone.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(othersSucceeded.get()).isEqualTo(BUYERS - 1);
+            assertThat(blockedPurchase.isDone()).isFalse();
+        } finally {
+            release.countDown();
+        }
+        assertThat(blockedPurchase.get(30, TimeUnit.SECONDS)).isNotNull();
+        blocker.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Integer orders = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE content_id = ?", Integer.class, contentId);
+        assertThat(orders).isEqualTo(BUYERS);
+        for (Long buyerId : buyerIds) {
+            assertThat(userRepository.findById(buyerId).orElseThrow().getTotalSpinach()).isZero();
+        }
+    }
+
+    private User newUser(Role role) {
+        String key = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .email(key + "@concurrency.test")
+                .nickname("c-" + key)
+                .role(role)
+                .phoneNumber("010" + Math.abs(key.hashCode()))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package popeye.popeyebackend.pay.toss;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 로컬 Toss Payments 스텁 서버 (외부 네트워크 없이 결제 승인/취소 흐름 재현)
+ *
+ * 실행: main 실행 후 애플리케이션을 TOSS_BASE_URL=http://localhost:18080 으로 기동
+ * 옵션 (시스템 프로퍼티)
+ * - toss.stub.port: 포트 (기본 18080)
+ * - toss.stub.latency-ms: 응답 지연 (기본 100ms)
+ * - toss.stub.error-rate: 5xx 응답 비율 0.0~1.0 (기본 0.0)
+ */
+public class TossStubServer {
+
+    private static final Pattern PAYMENT_KEY = Pattern.compile("\"paymentKey\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ORDER_ID = Pattern.compile("\"orderId\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern AMOUNT = Pattern.compile("\"amount\"\\s*:\\s*(\\d+)");
+
+    // orderId -> 결제 상태, paymentKey -> orderId
+    private final Map<String, Payment> payments = new ConcurrentHashMap<>();
+    private final Map<String, String> orderIdByPaymentKey = new ConcurrentHashMap<>();
+
+    private final long latencyMillis;
+    private final double errorRate;
+
+    private record Payment(String paymentKey, String orderId, int amount, String status) {
+    }
+
+    public TossStubServer(long latencyMillis, double errorRate) {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("toss.stub.port", 18080);
+        long latency = Long.getLong("toss.stub.latency-ms", 100);
+        double errorRate = Double.parseDouble(System.getProperty("toss.stub.error-rate", "0.0"));
+
+        TossStubServer stub = new TossStubServer(latency, errorRate);
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/v1/payments", stub::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        System.out.printf("Toss stub listening on :%d (latency=%dms, errorRate=%.2f)%n", port, latency, errorRate);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sleep();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                respond(exchange, 500, error("PROVIDER_ERROR", "stub injected failure"));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+            if ("POST".equals(method) && path.equals("/v1/payments/confirm")) {
+                confirm(exchange, body);
+            } else if ("POST".equals(method) && path.endsWith("/cancel")) {
+                String paymentKey = path.substring("/v1/payments/".length(), path.length() - "/cancel".length());
+                cancel(exchange, paymentKey);
+            } else if ("GET".equals(method) && path.startsWith("/v1/payments/orders/")) {
+                lookup(exchange, path.substring("/v1/payments/orders/".length()));
+            } else if ("GET".equals(method)) {
+                lookup(exchange, orderIdByPaymentKey.get(path.substring("/v1/payments/".length())));
+            } else {
+                respond(exchange, 404, error("NOT_FOUND", "unknown stub path"));
+            }
+        }
+    }
+
+    private void confirm(HttpExchange exchange, String body) throws IOException {
+        String paymentKey = find(PAYMENT_KEY, body);
+        String orderId = find(ORDER_ID, body);
+        String amount = find(AMOUNT, body);
+        if (paymentKey == null || orderId == null || amount == null) {
+            respond(exchange, 400, error("INVALID_REQUEST", "paymentKey, orderId, amount required"));
+            return;
+        }
+
+        // 같은 orderId 재요청은 최초 결과를 그대로 반환 (Idempotency-Key와 동일한 효과)
+        Payment payment = payments.computeIfAbsent(orderId,
+                id -> new Payment(paymentKey, id, Integer.parseInt(amount), "DONE"));
+        orderIdByPaymentKey.put(paymentKey, orderId);
+        respond(exchange, 200, toJson(payment));
+    }
+
+    private void cancel(HttpExchange exchange, String paymentKey) throws IOException {
+        String orderId = orderIdByPaymentKey.get(paymentKey);
+        if (orderId == null) {
+            respond(exchange, 404, error("NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."));
+            return;
+        }
+        Payment canceled = payments.computeIfPresent(orderId,
+                (id, p) -> new Payment(p.paymentKey(), id, p.amount(), "CANCELED"));
+        respond(exchange, 200, toJson(canceled));
+    }
+
+    private void lookup(HttpExchange exchange, String orderId) throws IOException {
+        Payment payment = orderId != null ? payments.get(orderId) : null;
+        if (payment == null) {
+            respond(exchange, 404, error("NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."));
+            return;
+        }
+        respond(exchange, 200, toJson(payment));
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) return;
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String find(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String toJson(Payment p) {
+        return "{\"paymentKey\":\"" + p.paymentKey() + "\",\"orderId\":\"" + p.orderId()
+                + "\",\"status\":\"" + p.status() + "\",\"totalAmount\":" + p.amount()
+                + ",\"receipt\":{\"url\":\"http://localhost/stub/receipt/" + p.paymentKey() + "\"}}";
+    }
+
+    private static String error(String code, String message) {
+        return "{\"code\":\"" + code + "\",\"message\":\"" + message + "\"}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}